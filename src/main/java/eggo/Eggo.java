@@ -2,6 +2,14 @@ package eggo;
 
 import java.util.Scanner;
 
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import mode.EchoMode;
+
+import mode.task.TaskReplication;
+
 /**
  * The main class for the chatbot application.
  * This class initializes the chatbot, handles user input, and starts the lobby.
@@ -11,13 +19,30 @@ public class Eggo {
     /**
      * The entry point of the chatbot application.
      * Initializes the necessary components and starts the chatbot lobby.
+     * <p>
+     * With {@code --echo-raw}, Eggo instead streams standard input straight back to standard
+     * output until an exit line, for piping large inputs through Echo Mode.
+     * </p>
      *
-     * @param args Command-line arguments (not used).
+     * @param args Command-line arguments, optionally {@code --echo-raw}.
      */
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--echo-raw")) {
+            try {
+                // Bypass System.out, whose PrintStream adds a lock and a small buffer to every write
+                EchoMode.stream(System.in, new FileOutputStream(FileDescriptor.out));
+            } catch (IOException e) {
+                OutputHandler.printError("Echo stream failed: " + e.getMessage());
+            }
+            return;
+        }
+
         // Create a Scanner object to handle user input
         Scanner scanner = new Scanner(System.in);
 
+        // Join the task list replication group if this process was configured for it
+        TaskReplication.startIfConfigured();
+
         // Initialize the lobby where users can choose modes
         Lobby lobby = new Lobby();
 
@@ -3,8 +3,7 @@ package eggo;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Scanner;
-
-import exception.InvalidCommandException;
+import java.util.function.Supplier;
 
 import mode.Mode;
 import mode.TaskMode;
@@ -15,18 +14,21 @@ import mode.EchoMode;
  * The lobby serves as the main entry point and management interface for available Eggo modes.
  */
 public class Lobby {
-    private final Map<String, Mode> modes; // Stores available Eggo modes
+    private final Map<String, Supplier<Mode>> modeFactories; // Stores available Eggo modes
+    private final Map<String, Mode> modes; // Stores modes that have been entered at least once
     private static String availableModes;
 
     /**
      * Initializes the Eggo lobby with different modes.
-     * The available modes are stored in a HashMap for quick access.
+     * Modes are registered as factories, so a mode's classes and data are only loaded
+     * the first time the user enters it.
      */
     public Lobby() {
+        modeFactories = new HashMap<>();
         modes = new HashMap<>();
-        modes.put("echo", new EchoMode()); // Register Echo Mode
-        modes.put("task", new TaskMode()); // Register Task Mode
-        availableModes = String.join(", ", modes.keySet());
+        modeFactories.put("echo", () -> new EchoMode()); // Register Echo Mode
+        modeFactories.put("task", () -> new TaskMode()); // Register Task Mode
+        availableModes = String.join(", ", modeFactories.keySet());
     }
 
     /**
@@ -34,25 +36,30 @@ public class Lobby {
      * to common user inputs and handling default responses for unrecognized inputs.
      */
     public static class ResponseGenerator {
-        private static final Map<String, String> responseMap = new HashMap<>();
+        public static final String DEFAULT_RESPONSE = "I didn't catch that. Could you try again?";
+
+        private static final ResponseMatcher matcher = new ResponseMatcher();
 
-        // Initialize predefined responses
+        // Initialize predefined responses and compile them once
         static {
-            responseMap.put("hello", "Hi! How can I assist you today?");
-            responseMap.put("hi", "Hi! How can I assist you today?");
-            responseMap.put("hey", "Hi! How can I assist you today?");
-            responseMap.put("how are you?", "Hi! I'm great. Thanks for asking! How can I assist you today?");
-            responseMap.put("what's your name?", "My name is Eggo! How can I assist you today?");
-            responseMap.put("your name?", "My name is Eggo! How can I assist you today?");
+            matcher.add("hello", ResponseMatcher.Rule.EXACT, "Hi! How can I assist you today?")
+                    .add("hi", ResponseMatcher.Rule.EXACT, "Hi! How can I assist you today?")
+                    .add("hey", ResponseMatcher.Rule.EXACT, "Hi! How can I assist you today?")
+                    .add("how are you?", ResponseMatcher.Rule.EXACT,
+                            "Hi! I'm great. Thanks for asking! How can I assist you today?")
+                    .add("what's your name?", ResponseMatcher.Rule.EXACT, "My name is Eggo! How can I assist you today?")
+                    .add("your name?", ResponseMatcher.Rule.EXACT, "My name is Eggo! How can I assist you today?")
+                    .add("thank", ResponseMatcher.Rule.CONTAINS, "You're welcome! Anything else I can do for you?");
+            matcher.compile();
         }
 
         /**
-         * Retrieves the map containing predefined responses.
+         * Retrieves the compiled matcher holding the predefined responses.
          *
-         * @return A map where keys are user inputs and values are corresponding chatbot responses.
+         * @return A matcher from user inputs to the corresponding chatbot responses.
          */
-        public static Map<String, String> getResponseMap() {
-            return responseMap;
+        public static ResponseMatcher getMatcher() {
+            return matcher;
         }
     }
 
@@ -85,14 +92,13 @@ public class Lobby {
                     break;
                 } else if (input.equalsIgnoreCase("help")) {
                     HelpHandler.help();
-                } else if (modes.containsKey(input)) {
-                    // Switch to the selected mode
-                    modes.get(input).start(scanner);
+                } else if (modeFactories.containsKey(input)) {
+                    // Switch to the selected mode, creating it on first entry
+                    modes.computeIfAbsent(input, name -> modeFactories.get(name).get()).start(scanner);
                     OutputHandler.printInfo("Returned to the Lobby.");
                 } else {
-                    // Handle invalid input
-                    Map<String, String> responseMap = ResponseGenerator.getResponseMap();
-                    resolveInputResponse(input, responseMap);
+                    // Handle other input
+                    resolveInputResponse(input, ResponseGenerator.getMatcher());
                 }
             } catch (Exception e) {
                 // The exception has been handled
@@ -102,20 +108,14 @@ public class Lobby {
 
     /**
      * Resolves user input by checking against predefined responses.
-     * If the input is not recognized, an InvalidCommandException is thrown.
+     * If the input is not recognized, a default response is printed instead.
      *
      * @param input The user input string to be checked.
-     * @param responseMap A map of predefined responses.
-     * @throws InvalidCommandException If the input is not found in the predefined response map.
+     * @param matcher The compiled predefined responses.
      */
-    public void resolveInputResponse(String input, Map<String, String> responseMap) throws InvalidCommandException {
-        if (!responseMap.containsKey(input)) {
-            OutputHandler.print("I didn't catch that. Could you try again?");
-            throw new InvalidCommandException();
-        }
-
-        String response = responseMap.get(input.toLowerCase());
-        OutputHandler.print(response);
+    public void resolveInputResponse(String input, ResponseMatcher matcher) {
+        String response = matcher.match(input);
+        OutputHandler.print(response != null ? response : ResponseGenerator.DEFAULT_RESPONSE);
     }
 
     private static class HelpHandler implements Helper {
@@ -0,0 +1,169 @@
+package eggo;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Matches user input against a catalog of phrases in a single pass, ignoring case.
+ * <p>
+ * All phrases are compiled into one Aho-Corasick automaton, so the cost of a lookup depends on
+ * the length of the input rather than the size of the catalog. Each phrase is registered with
+ * a {@link Rule} that decides where in the input it may appear.
+ * </p>
+ * <p>
+ * When several phrases match, an {@code EXACT} match wins over a {@code PREFIX} match, which wins
+ * over a {@code CONTAINS} match. Among matches of the same rule, the longest phrase wins, and
+ * among equally long phrases, the one added first wins.
+ * </p>
+ *
+ * Usage:
+ * Call {@code add} for every phrase, then {@code compile()} once before calling {@code match}.
+ */
+public class ResponseMatcher {
+
+    /**
+     * Where a phrase has to appear in the input to match.
+     */
+    public enum Rule {
+        EXACT, PREFIX, CONTAINS
+    }
+
+    private static class Phrase {
+        private final int length;
+        private final Rule rule;
+        private final String response;
+        private final int order;
+
+        Phrase(int length, Rule rule, String response, int order) {
+            this.length = length;
+            this.rule = rule;
+            this.response = response;
+            this.order = order;
+        }
+
+        // Whether this phrase takes precedence over another matching phrase
+        boolean beats(Phrase other) {
+            if (other == null || rule != other.rule) {
+                return other == null || rule.ordinal() < other.rule.ordinal();
+            }
+            return length != other.length ? length > other.length : order < other.order;
+        }
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<Phrase> phrases = new ArrayList<>(1);
+        private Node fail; // Longest proper suffix of this node that is also in the trie
+        private Node output; // Nearest node along the fail links that ends a phrase
+    }
+
+    private final Node root = new Node();
+    private int size;
+    private boolean isCompiled;
+
+    /**
+     * Registers a phrase. Phrases are matched case-insensitively.
+     *
+     * @param phrase   The phrase to look for.
+     * @param rule     Where the phrase has to appear in the input.
+     * @param response The response to return when the phrase matches.
+     * @return This matcher, for chaining.
+     * @throws IllegalStateException If the matcher has already been compiled.
+     */
+    public ResponseMatcher add(String phrase, Rule rule, String response) {
+        if (isCompiled) {
+            throw new IllegalStateException("Cannot add phrases after the matcher is compiled.");
+        }
+        if (phrase.isEmpty()) {
+            throw new IllegalArgumentException("Phrase must not be empty.");
+        }
+
+        Node node = root;
+        for (int i = 0; i < phrase.length(); i++) {
+            node = node.children.computeIfAbsent(Character.toLowerCase(phrase.charAt(i)), c -> new Node());
+        }
+        node.phrases.add(new Phrase(phrase.length(), rule, response, size++));
+        return this;
+    }
+
+    /**
+     * Builds the failure links of the automaton. Must be called once after all phrases are added.
+     */
+    public void compile() {
+        Queue<Node> queue = new ArrayDeque<>();
+        root.fail = root;
+        for (Node child : root.children.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+
+        // Breadth-first, so every node's fail target is complete before its children need it
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            node.output = node.fail.phrases.isEmpty() ? node.fail.output : node.fail;
+
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                Node child = entry.getValue();
+                Node fallback = node.fail;
+                while (fallback != root && !fallback.children.containsKey(entry.getKey())) {
+                    fallback = fallback.fail;
+                }
+                Node target = fallback.children.get(entry.getKey());
+                child.fail = target != null ? target : root;
+                queue.add(child);
+            }
+        }
+        isCompiled = true;
+    }
+
+    /**
+     * Finds the response of the best matching phrase in the input.
+     *
+     * @param input The user input.
+     * @return The response, or {@code null} if no phrase matches.
+     * @throws IllegalStateException If the matcher has not been compiled.
+     */
+    public String match(String input) {
+        if (!isCompiled) {
+            throw new IllegalStateException("The matcher must be compiled before matching.");
+        }
+
+        Phrase best = null;
+        Node node = root;
+        int length = input.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = Character.toLowerCase(input.charAt(i));
+            Node next;
+            while ((next = node.children.get(c)) == null && node != root) {
+                node = node.fail;
+            }
+            node = next != null ? next : root;
+
+            // Visit every phrase that ends at this position
+            for (Node hit = node.phrases.isEmpty() ? node.output : node; hit != null; hit = hit.output) {
+                for (Phrase phrase : hit.phrases) {
+                    if (isApplicable(phrase, i, length) && phrase.beats(best)) {
+                        best = phrase;
+                    }
+                }
+            }
+        }
+
+        return best == null ? null : best.response;
+    }
+
+    // Checks whether a phrase ending at the given position satisfies its rule
+    private static boolean isApplicable(Phrase phrase, int end, int inputLength) {
+        boolean isAtStart = end + 1 == phrase.length;
+        return switch (phrase.rule) {
+        case EXACT -> isAtStart && end + 1 == inputLength;
+        case PREFIX -> isAtStart;
+        case CONTAINS -> true;
+        };
+    }
+}
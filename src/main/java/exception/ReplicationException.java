@@ -0,0 +1,7 @@
+package exception;
+
+public class ReplicationException extends RuntimeException {
+    public ReplicationException(String message) {
+        super(message);
+    }
+}
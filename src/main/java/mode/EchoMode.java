@@ -2,11 +2,20 @@ package mode;
 
 import java.util.Scanner;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
 import eggo.OutputHandler;
 
 /**
  * EchoMode is a mode where the chatbot repeats user input verbatim.
  * Users can exit this mode by typing "exit" or "bye".
+ * <p>
+ * {@link #stream(InputStream, OutputStream)} provides a raw variant for piping large inputs,
+ * which copies lines verbatim without any formatting.
+ * </p>
  */
 public class EchoMode implements Mode {
 
@@ -17,6 +26,13 @@ public class EchoMode implements Mode {
         You have entered Echo Mode! Type something, and I'll repeat it.
         Type 'exit' or 'bye' to return to the lobby.""";
 
+    private static final int STREAM_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * The longest line that can still be an exit line ("exit" followed by a carriage return).
+     */
+    private static final int MAX_EXIT_LINE_LENGTH = 5;
+
     /**
      * Starts Echo Mode and repeats user input until the user exits.
      *
@@ -36,4 +52,84 @@ public class EchoMode implements Mode {
             OutputHandler.print(input);
         }
     }
+
+    /**
+     * Echoes lines from the input to the output verbatim until an exit line or the end of input.
+     * <p>
+     * Input is read in large chunks and copied to the output in bulk, so memory use stays
+     * constant regardless of the length of the stream or its lines. Only the first few bytes
+     * of each line are held back, since only a line that short can be an exit line.
+     * </p>
+     *
+     * @param in  The stream to read lines from.
+     * @param out The stream to echo lines to. It is flushed but not closed.
+     * @throws IOException If reading or writing fails.
+     */
+    public static void stream(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+        byte[] lineStart = new byte[MAX_EXIT_LINE_LENGTH]; // Held back until the line is known not to be an exit line
+        int lineLength = 0; // Capped at MAX_EXIT_LINE_LENGTH + 1 once the line is known to be longer
+        OutputStream output = new BufferedOutputStream(out, STREAM_BUFFER_SIZE);
+
+        int read;
+        while ((read = in.read(buffer)) > 0) {
+            int unwritten = 0; // Start of the bytes in this chunk that still have to be written
+
+            for (int i = 0; i < read; i++) {
+                byte b = buffer[i];
+                if (b == '\n') {
+                    if (lineLength <= MAX_EXIT_LINE_LENGTH) {
+                        if (isExitLine(lineStart, lineLength)) {
+                            output.flush();
+                            return;
+                        }
+                        output.write(lineStart, 0, lineLength);
+                        output.write('\n');
+                    } else {
+                        output.write(buffer, unwritten, i + 1 - unwritten);
+                    }
+                    unwritten = i + 1;
+                    lineLength = 0;
+                } else if (lineLength < MAX_EXIT_LINE_LENGTH) {
+                    lineStart[lineLength++] = b;
+                    unwritten = i + 1;
+                } else if (lineLength == MAX_EXIT_LINE_LENGTH) {
+                    // Too long to be an exit line: release the held back bytes and copy the rest in bulk
+                    output.write(lineStart, 0, lineLength);
+                    lineLength++;
+                    unwritten = i;
+                }
+            }
+
+            if (lineLength > MAX_EXIT_LINE_LENGTH) {
+                output.write(buffer, unwritten, read - unwritten);
+            }
+        }
+
+        // The input ended without a final line separator
+        if (lineLength <= MAX_EXIT_LINE_LENGTH && !isExitLine(lineStart, lineLength)) {
+            output.write(lineStart, 0, lineLength);
+        }
+        output.flush();
+    }
+
+    // Checks for "exit" or "bye" in any case, ignoring a trailing carriage return
+    private static boolean isExitLine(byte[] line, int length) {
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        return matchesIgnoreCase(line, length, "exit") || matchesIgnoreCase(line, length, "bye");
+    }
+
+    private static boolean matchesIgnoreCase(byte[] line, int length, String word) {
+        if (length != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (Character.toLowerCase((char) line[i]) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
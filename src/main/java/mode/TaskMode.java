@@ -11,7 +11,7 @@ import mode.task.TaskManager;
  * This class
  * - Allows the user to add tasks, list them, rename and delete.
  * - Allows the tasks to be marked as done, urgent or important.
- * - Task includes "todo", "deadline" and "event" type.
+ * - Task includes "todo", "deadline", "event" and "recurring" type.
  * - The list will be saved upon updates and automatically load upon entry.
  */
 public class TaskMode implements Mode {
@@ -21,18 +21,26 @@ public class TaskMode implements Mode {
             Type 'exit' to return to the Lobby.""";
     public static final String HELP_MESSAGE = """
             Type 'list' to view your tasks.
+            Type 'list /matrix' to view pending tasks by urgency and importance.
+            Type 'list /next [count]' to view the deadlines due soonest.
+            Type 'list /window [from] [to]' to view recurring task occurrences between two dates.
             Type 'todo [description]' to add a to-do.
             Type 'deadline [description] /by [time]' to add a deadline.
             Type 'event [description] /from [start time] /to [end time]' to add an event.
+            Type 'recur [description] /every [day|week|n days|n weeks] /from [date] /until [date]'
+            to add a recurring task (dates as yyyy-MM-dd, /from and /until are optional).
             Type 'mark [indices]' to mark tasks as done.
             Type 'unmark [indices]' to mark tasks as not done.
+            Type 'mark [index] /on [date]' or 'unmark [index] /on [date]' for one occurrence of a recurring task.
             Type 'urg [indices]' to mark tasks as urgent.
             Type 'noturg [indices]' to remove urgent mark.
             Type 'imp [indices]' to mark tasks as important.
             Type 'notimp [indices]' to remove important mark.
-            Type 'find [keyword]' or 'find /type [todo|deadline|event]' to find tasks).
+            Type 'find [keyword]' or 'find /type [todo|deadline|event|recurring]' to find tasks).
             Type 'rename [index] [new task name]' to rename a task).
             Type 'delete [indices]' to remove tasks.
+            Type 'stats' to view memory usage of your task list.
+            Type 'import [csv|jsonl] [file]' or 'export [csv|jsonl] [file]' to move tasks in or out.
             Type 'exit' to return to the Lobby.
             
             Indices should be separated by only 1 space.""";
@@ -41,42 +49,56 @@ public class TaskMode implements Mode {
     public void start(Scanner scanner) {
         OutputHandler.printInfo(WELCOME_MESSAGE);
 
-        while (true) {
-            try {
-                String input = scanner.nextLine().trim();
-                String[] parts = input.split(" ", 2); // To be examined
-                String command = parts[0].toLowerCase();
-                String arguments = parts.length > 1 ? parts[1].trim() : "";
+        while (handle(scanner.nextLine())) {
+            // Keep reading commands until the user exits
+        }
+    }
+
+    /**
+     * Executes a single Task Mode command. Errors are reported to the user rather than thrown.
+     *
+     * @param input The command line entered by the user.
+     * @return False if the command exits Task Mode, true otherwise.
+     */
+    public boolean handle(String input) {
+        try {
+            String[] parts = input.trim().split(" ", 2); // To be examined
+            String command = parts[0].toLowerCase();
+            String arguments = parts.length > 1 ? parts[1].trim() : "";
 
-                switch (command) {
-                    case "exit" -> {
-                        OutputHandler.printInfo("Exiting Task Mode.");
-                        return;
-                    }
-                    case "todo" -> TaskManager.addTodo(arguments);
-                    case "deadline" -> TaskManager.addDeadline(arguments);
-                    case "event" -> TaskManager.addEvent(arguments);
-                    case "list" -> TaskManager.listTasks();
-                    case "mark" -> TaskManager.updateTasksDone(arguments, true);
-                    case "unmark" -> TaskManager.updateTasksDone(arguments, false);
-                    case "urg" -> TaskManager.updateTaskUrgency(arguments, true,
-                            "marked as urgent");
-                    case "noturg" -> TaskManager.updateTaskUrgency(arguments, false,
-                            "removed urgent mark");
-                    case "imp" -> TaskManager.updateTaskImportance(arguments, true,
-                            "marked as important");
-                    case "notimp" -> TaskManager.updateTaskImportance(arguments, false,
-                            "removed important mark");
-                    case "find" -> TaskManager.findTask(arguments);
-                    case "rename" -> TaskManager.renameTask(arguments);
-                    case "delete" -> TaskManager.deleteTasks(arguments);
-                    case "help" -> HelpHandler.help();
-                    default -> OutputHandler.printWarning("Unknown command: " + command);
+            switch (command) {
+                case "exit" -> {
+                    OutputHandler.printInfo("Exiting Task Mode.");
+                    return false;
                 }
-            } catch (Exception e) {
-                OutputHandler.printError(e.getMessage());
+                case "todo" -> TaskManager.addTodo(arguments);
+                case "deadline" -> TaskManager.addDeadline(arguments);
+                case "event" -> TaskManager.addEvent(arguments);
+                case "recur" -> TaskManager.addRecurring(arguments);
+                case "list" -> TaskManager.listTasks(arguments);
+                case "mark" -> TaskManager.updateTasksDone(arguments, true);
+                case "unmark" -> TaskManager.updateTasksDone(arguments, false);
+                case "urg" -> TaskManager.updateTaskUrgency(arguments, true,
+                        "marked as urgent");
+                case "noturg" -> TaskManager.updateTaskUrgency(arguments, false,
+                        "removed urgent mark");
+                case "imp" -> TaskManager.updateTaskImportance(arguments, true,
+                        "marked as important");
+                case "notimp" -> TaskManager.updateTaskImportance(arguments, false,
+                        "removed important mark");
+                case "find" -> TaskManager.findTask(arguments);
+                case "rename" -> TaskManager.renameTask(arguments);
+                case "stats" -> TaskManager.printStats();
+                case "import" -> TaskManager.importTasks(arguments);
+                case "export" -> TaskManager.exportTasks(arguments);
+                case "delete" -> TaskManager.deleteTasks(arguments);
+                case "help" -> HelpHandler.help();
+                default -> OutputHandler.printWarning("Unknown command: " + command);
             }
+        } catch (Exception e) {
+            OutputHandler.printError(e.getMessage());
         }
+        return true;
     }
 
     private static class HelpHandler implements Helper {
@@ -0,0 +1,141 @@
+package mode.task;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+import exception.CorruptedTaskEntryException;
+
+/**
+ * Reads and writes tasks as RFC 4180 CSV with a header row naming the {@link TaskFields}.
+ * <p>
+ * Fields containing commas, quotes or line breaks are quoted, with quotes doubled.
+ * When reading, columns are matched by header name, so they may appear in any order
+ * and unknown columns are ignored.
+ * </p>
+ * <p>
+ * Records longer than {@link RecordReader#MAX_RECORD_LENGTH} characters are rejected and skipped,
+ * so that a stray quote cannot make the reader buffer the rest of the file.
+ * </p>
+ */
+class CsvTaskCodec implements TaskCodec {
+
+    private RecordReader input; // Created on the first read, since the codec is bound to one stream
+    private int[] columns; // Maps each CSV column to a TaskFields index (-1 if unknown), null until the header is read
+
+    @Override
+    public void writeHeader(Writer writer) throws IOException {
+        writer.write(String.join(",", TaskFields.NAMES));
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(Task task, Writer writer) throws IOException {
+        String[] fields = TaskFields.toFields(task);
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(fields[i], writer);
+        }
+        writer.write("\r\n");
+    }
+
+    private static void writeField(String field, Writer writer) throws IOException {
+        boolean needsQuotes = false;
+        for (int i = 0; i < field.length() && !needsQuotes; i++) {
+            char c = field.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            writer.write(field);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(field.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @Override
+    public Task read(Reader reader) throws IOException, CorruptedTaskEntryException {
+        if (input == null) {
+            input = new RecordReader(reader);
+        }
+        if (columns == null) {
+            List<String> header = readRow();
+            if (header == null) {
+                return null;
+            }
+            columns = new int[header.size()];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = TaskFields.indexOf(header.get(i));
+            }
+        }
+
+        List<String> row;
+        do {
+            row = readRow();
+            if (row == null) {
+                return null;
+            }
+        } while (row.size() == 1 && row.get(0).isEmpty()); // Skip blank lines
+
+        String[] fields = new String[TaskFields.NAMES.length];
+        for (int i = 0; i < row.size() && i < columns.length; i++) {
+            if (columns[i] >= 0) {
+                fields[columns[i]] = row.get(i);
+            }
+        }
+        return TaskFields.fromFields(fields);
+    }
+
+    // Reads one row of fields, or returns null at the end of the input
+    private List<String> readRow() throws IOException, CorruptedTaskEntryException {
+        int c = input.next();
+        if (c < 0) {
+            return null;
+        }
+
+        List<String> row = new ArrayList<>(TaskFields.NAMES.length);
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        int length = 0;
+
+        while (true) {
+            if (++length > RecordReader.MAX_RECORD_LENGTH) {
+                throw input.tooLong(String.join(",", row) + (row.isEmpty() ? "" : ",")
+                        + RecordReader.excerpt(field));
+            }
+            if (isQuoted) {
+                if (c < 0) {
+                    throw new CorruptedTaskEntryException("Unterminated quoted field: " + RecordReader.excerpt(field));
+                } else if (c == '"' && input.peek() == '"') {
+                    input.next();
+                    field.append('"');
+                } else if (c == '"') {
+                    isQuoted = false;
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c < 0 || c == '\n' || (c == '\r' && input.peek() == '\n')) {
+                if (c == '\r') {
+                    input.next();
+                }
+                row.add(field.toString());
+                return row;
+            } else if (c == ',') {
+                row.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.length() == 0) {
+                isQuoted = true;
+            } else {
+                field.append((char) c);
+            }
+            c = input.next();
+        }
+    }
+}
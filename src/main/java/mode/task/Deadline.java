@@ -1,16 +1,23 @@
 package mode.task;
 
+import java.time.LocalDateTime;
+
 public class Deadline extends Task {
     protected final String by;
+    private final LocalDateTime due; // Null if "by" is not in a recognised date format
 
     public Deadline(String description, String by) {
-        super(description, false, false, false);
-        this.by = by;
+        this(description, false, false, false, by);
     }
 
     public Deadline(String description, boolean isCompleted, boolean isUrgent, boolean isImportant, String by) {
         super(description, isCompleted, isUrgent, isImportant);
-        this.by = by;
+        this.by = StringPool.intern(by);
+        this.due = parseDateTime(by);
+    }
+
+    public LocalDateTime getDue() {
+        return due;
     }
 
     @Override
@@ -0,0 +1,94 @@
+package mode.task;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses long task descriptions to reduce their heap footprint.
+ * <p>
+ * Compression is off by default. Set the {@code eggo.compression.minLength} system property
+ * to compress descriptions of at least that many characters. A description is only kept
+ * compressed if that actually makes it smaller.
+ * </p>
+ */
+class DescriptionCompressor {
+
+    static final int MIN_LENGTH = Integer.getInteger("eggo.compression.minLength", 0);
+
+    static boolean shouldCompress(String description) {
+        return MIN_LENGTH > 0 && description.length() >= MIN_LENGTH;
+    }
+
+    /**
+     * Compresses a description.
+     *
+     * @param description The description to compress.
+     * @return The compressed bytes, or null if compression would not save space.
+     */
+    static byte[] compress(String description) {
+        byte[] input = description.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        deflater.setInput(input);
+        deflater.finish();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream(input.length / 2);
+        byte[] buffer = new byte[512];
+        while (!deflater.finished()) {
+            output.write(buffer, 0, deflater.deflate(buffer));
+        }
+        deflater.end();
+
+        byte[] compressed = output.toByteArray();
+        return compressed.length < input.length ? compressed : null;
+    }
+
+    /**
+     * Restores a description compressed by {@link #compress(String)}.
+     */
+    static String decompress(byte[] compressed) {
+        Inflater inflater = new Inflater();
+        inflater.setInput(compressed);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream(compressed.length * 3);
+        byte[] buffer = new byte[512];
+        try {
+            while (!inflater.finished()) {
+                output.write(buffer, 0, inflater.inflate(buffer));
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted compressed description", e);
+        } finally {
+            inflater.end();
+        }
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Describes how many of the given tasks have compressed descriptions and the space saved,
+     * measured in UTF-8 bytes.
+     *
+     * @param tasks The live task list.
+     */
+    static String getStats(List<Task> tasks) {
+        if (MIN_LENGTH <= 0) {
+            return "Description compression: off (set -Deggo.compression.minLength to enable)";
+        }
+        long compressedCount = 0;
+        long originalBytes = 0;
+        long compressedBytes = 0;
+        for (Task task : tasks) {
+            byte[] compressed = task.getCompressedDescription();
+            if (compressed != null) {
+                compressedCount++;
+                originalBytes += task.getDescription().getBytes(StandardCharsets.UTF_8).length;
+                compressedBytes += compressed.length;
+            }
+        }
+        return "Description compression: " + compressedCount + " compressed (min length " + MIN_LENGTH + "), "
+                + (originalBytes / 1024) + " KiB -> " + (compressedBytes / 1024) + " KiB";
+    }
+}
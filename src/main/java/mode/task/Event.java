@@ -1,19 +1,25 @@
 package mode.task;
 
+import java.time.LocalDateTime;
+
 public class Event extends Task {
     protected final String from;
     protected final String to;
+    private final LocalDateTime start; // Null if "from" is not in a recognised date format
 
     public Event(String description, String from, String to) {
-        super(description, false, false, false);
-        this.from = from;
-        this.to = to;
+        this(description, false, false, false, from, to);
     }
 
     public Event(String description, boolean isCompleted, boolean isUrgent, boolean isImportant, String from, String to) {
         super(description, isCompleted, isUrgent, isImportant);
-        this.from = from;
-        this.to = to;
+        this.from = StringPool.intern(from);
+        this.to = StringPool.intern(to);
+        this.start = parseDateTime(from);
+    }
+
+    public LocalDateTime getStart() {
+        return start;
     }
 
     @Override
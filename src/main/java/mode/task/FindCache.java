@@ -0,0 +1,124 @@
+package mode.task;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches the results of {@code find} queries, so that repeating a query does not rescan
+ * and re-render the task list.
+ * <p>
+ * The cache has two levels. Each entry keeps both the rendered output, which answers an
+ * identical query directly, and the list of matching tasks. A keyword query that is not cached
+ * but extends a cached keyword (e.g. "meeting" after "meet") only scans the cached matches,
+ * since every task containing the longer keyword also contains the shorter one.
+ * </p>
+ * <p>
+ * Entries are stamped with a version number that every change to the tasks advances,
+ * so stale entries are never served. The cache holds at most {@code eggo.cache.findEntries}
+ * entries (default 256), evicting the least recently used.
+ * </p>
+ */
+class FindCache {
+
+    private static final int MAX_ENTRIES = Integer.getInteger("eggo.cache.findEntries", 256);
+
+    // Larger results are not cached, to bound the memory held by rendered output
+    private static final int MAX_CACHED_MATCHES = 10_000;
+
+    /**
+     * The cached result of a query.
+     *
+     * @param matches The matching tasks, in list order.
+     * @param output  The rendered output, or null if nothing matched.
+     * @param version The version of the tasks the result was computed from.
+     */
+    record Result(List<Task> matches, String output, long version) {
+    }
+
+    private static final Map<String, Result> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Result> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    private static long version;
+    private static long hits;
+    private static long narrowedMisses;
+    private static long misses;
+
+    /**
+     * Marks every cached result as stale. Registered as a {@link TaskChangeListener}, and also
+     * called when the task list is replaced wholesale.
+     */
+    static synchronized void invalidate() {
+        version++;
+    }
+
+    /**
+     * Returns the cached result of the given query, or null if it is not cached or is stale.
+     *
+     * @param query The normalized query.
+     */
+    static synchronized Result get(String query) {
+        Result result = lookup(query);
+        if (result != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the tasks that a keyword query needs to scan: the matches of the longest cached
+     * query that the given query extends, or {@code allTasks} if there is none.
+     *
+     * @param query     The normalized query, ending with the keyword.
+     * @param prefixEnd The length of the part of the query before the keyword.
+     * @param allTasks  The tasks to scan if no narrower candidates are cached.
+     */
+    static synchronized List<Task> getCandidates(String query, int prefixEnd, List<Task> allTasks) {
+        for (int end = query.length() - 1; end >= prefixEnd; end--) {
+            Result result = lookup(query.substring(0, end));
+            if (result != null) {
+                narrowedMisses++;
+                return result.matches();
+            }
+        }
+        return allTasks;
+    }
+
+    /**
+     * Caches the result of a query.
+     *
+     * @param query   The normalized query.
+     * @param matches The matching tasks.
+     * @param output  The rendered output, or null if nothing matched.
+     * @return The cached result.
+     */
+    static synchronized Result put(String query, List<Task> matches, String output) {
+        Result result = new Result(matches, output, version);
+        if (matches.size() <= MAX_CACHED_MATCHES) {
+            entries.put(query, result);
+        }
+        return result;
+    }
+
+    /**
+     * Describes the cache's size and hit rate.
+     */
+    static synchronized String getStats() {
+        return "Find cache: " + entries.size() + "/" + MAX_ENTRIES + " entries, "
+                + hits + " hits, " + misses + " misses (" + narrowedMisses + " narrowed)";
+    }
+
+    private static Result lookup(String query) {
+        Result result = entries.get(query);
+        if (result != null && result.version() != version) {
+            entries.remove(query);
+            return null;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,202 @@
+package mode.task;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+import exception.CorruptedTaskEntryException;
+
+/**
+ * Reads and writes tasks as JSON Lines: one flat JSON object per line, keyed by the
+ * {@link TaskFields} names, e.g. {@code {"type":"deadline","done":false,"description":"quiz","by":"2025-01-01"}}.
+ * <p>
+ * Empty fields are left out when writing. When reading, unknown keys are ignored and
+ * blank lines are skipped. Lines longer than {@link RecordReader#MAX_RECORD_LENGTH}
+ * characters are rejected and skipped.
+ * </p>
+ */
+class JsonLinesTaskCodec implements TaskCodec {
+
+    private RecordReader input; // Created on the first read, since the codec is bound to one stream
+
+    @Override
+    public void writeHeader(Writer writer) {
+        // JSON Lines has no header
+    }
+
+    @Override
+    public void write(Task task, Writer writer) throws IOException {
+        String[] fields = TaskFields.toFields(task);
+        StringBuilder line = new StringBuilder(128).append('{');
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].isEmpty()) {
+                continue;
+            }
+            if (line.length() > 1) {
+                line.append(',');
+            }
+            line.append('"').append(TaskFields.NAMES[i]).append("\":");
+            if (TaskFields.isBoolean(i) || TaskFields.isNumber(i)) {
+                line.append(fields[i]);
+            } else {
+                appendString(fields[i], line);
+            }
+        }
+        writer.write(line.append("}\n").toString());
+    }
+
+    private static void appendString(String value, StringBuilder out) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '"' -> out.append("\\\"");
+            case '\\' -> out.append("\\\\");
+            case '\n' -> out.append("\\n");
+            case '\r' -> out.append("\\r");
+            case '\t' -> out.append("\\t");
+            default -> {
+                if (c < 0x20) {
+                    out.append(String.format("\\u%04x", (int) c));
+                } else {
+                    out.append(c);
+                }
+            }
+            }
+        }
+        out.append('"');
+    }
+
+    @Override
+    public Task read(Reader reader) throws IOException, CorruptedTaskEntryException {
+        if (input == null) {
+            input = new RecordReader(reader);
+        }
+
+        String line;
+        do {
+            line = input.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        return TaskFields.fromFields(new Parser(line).parseObject());
+    }
+
+    /**
+     * Parses a single flat JSON object into TaskFields values.
+     */
+    private static class Parser {
+        private final String text;
+        private int position;
+
+        Parser(String text) {
+            this.text = text;
+        }
+
+        String[] parseObject() throws CorruptedTaskEntryException {
+            String[] fields = new String[TaskFields.NAMES.length];
+            expect('{');
+            if (peek() == '}') {
+                position++;
+            } else {
+                do {
+                    String key = parseString();
+                    expect(':');
+                    String value = parseValue();
+                    int field = TaskFields.indexOf(key);
+                    if (field >= 0) {
+                        fields[field] = value;
+                    }
+                } while (consume(','));
+                expect('}');
+            }
+            if (peek() != -1) {
+                throw error("Unexpected text after the object");
+            }
+            return fields;
+        }
+
+        // Returns strings unescaped, literals (numbers, true, false) as written, and null as empty
+        private String parseValue() throws CorruptedTaskEntryException {
+            if (peek() == '"') {
+                return parseString();
+            }
+            int start = position;
+            while (position < text.length() && ",}] \t".indexOf(text.charAt(position)) < 0) {
+                position++;
+            }
+            String literal = text.substring(start, position);
+            if (literal.isEmpty() || literal.startsWith("{") || literal.startsWith("[")) {
+                throw error("Only flat objects with string, number and boolean values are supported");
+            }
+            return literal.equals("null") ? "" : literal;
+        }
+
+        private String parseString() throws CorruptedTaskEntryException {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            while (position < text.length()) {
+                char c = text.charAt(position++);
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+                if (position >= text.length()) {
+                    break;
+                }
+                char escaped = text.charAt(position++);
+                switch (escaped) {
+                case 'n' -> value.append('\n');
+                case 'r' -> value.append('\r');
+                case 't' -> value.append('\t');
+                case 'b' -> value.append('\b');
+                case 'f' -> value.append('\f');
+                case 'u' -> {
+                    if (position + 4 > text.length()) {
+                        throw error("Truncated unicode escape");
+                    }
+                    try {
+                        value.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw error("Invalid unicode escape");
+                    }
+                    position += 4;
+                }
+                default -> value.append(escaped); // \" \\ \/
+                }
+            }
+            throw error("Unterminated string");
+        }
+
+        private int peek() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+            return position < text.length() ? text.charAt(position) : -1;
+        }
+
+        private boolean consume(char expected) {
+            if (peek() == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char expected) throws CorruptedTaskEntryException {
+            if (!consume(expected)) {
+                throw error("Expected '" + expected + "'");
+            }
+        }
+
+        private CorruptedTaskEntryException error(String message) {
+            return new CorruptedTaskEntryException(message + " at column " + (position + 1) + ": "
+                    + RecordReader.excerpt(text));
+        }
+    }
+}
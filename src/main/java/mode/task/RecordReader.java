@@ -0,0 +1,112 @@
+package mode.task;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import exception.CorruptedTaskEntryException;
+
+/**
+ * Buffered character input shared by the import codecs.
+ * <p>
+ * Records longer than {@link #MAX_RECORD_LENGTH} characters are rejected and skipped up to the
+ * next line break, so that a damaged file (such as a CSV field with a stray quote, or a JSON
+ * Lines file with one huge line) cannot make the reader buffer the rest of the file.
+ * A leading byte order mark, as written by spreadsheet "CSV UTF-8" exports, is skipped.
+ * </p>
+ */
+class RecordReader {
+
+    static final int MAX_RECORD_LENGTH = 1 << 20;
+
+    private static final int MAX_EXCERPT_LENGTH = 40;
+
+    private final Reader reader;
+    private final char[] buffer = new char[1 << 16];
+    private int position;
+    private int limit;
+    private boolean isStarted;
+
+    RecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads one line without its line terminator.
+     *
+     * @return The line, or null at the end of the input.
+     * @throws CorruptedTaskEntryException If the line is longer than {@link #MAX_RECORD_LENGTH}.
+     *                                     The line is skipped, so reading can continue.
+     */
+    String readLine() throws IOException, CorruptedTaskEntryException {
+        int c = next();
+        if (c < 0) {
+            return null;
+        }
+
+        StringBuilder line = new StringBuilder();
+        while (c >= 0 && c != '\n') {
+            if (c == '\r' && peek() == '\n') {
+                next();
+                break;
+            }
+            if (line.length() == MAX_RECORD_LENGTH) {
+                throw tooLong(line);
+            }
+            line.append((char) c);
+            c = next();
+        }
+        return line.toString();
+    }
+
+    /**
+     * Skips the rest of the current line, then returns the error describing an over-long record.
+     *
+     * @param start The beginning of the record, quoted in the message.
+     */
+    CorruptedTaskEntryException tooLong(CharSequence start) throws IOException {
+        skipLine();
+        return new CorruptedTaskEntryException("Record longer than " + MAX_RECORD_LENGTH
+                + " characters, starting: " + excerpt(start));
+    }
+
+    /**
+     * Shortens text for use in an error message.
+     */
+    static String excerpt(CharSequence text) {
+        return text.length() <= MAX_EXCERPT_LENGTH
+                ? text.toString()
+                : text.subSequence(0, MAX_EXCERPT_LENGTH) + "...";
+    }
+
+    int next() throws IOException {
+        int c = peek();
+        if (c >= 0) {
+            position++;
+        }
+        return c;
+    }
+
+    int peek() throws IOException {
+        while (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+            if (!isStarted) {
+                isStarted = true;
+                position = buffer[0] == '\uFEFF' ? 1 : 0;
+            }
+        }
+        return buffer[position];
+    }
+
+    // Discards input up to and including the next line break
+    private void skipLine() throws IOException {
+        int c;
+        do {
+            c = next();
+        } while (c >= 0 && c != '\n');
+    }
+}
@@ -0,0 +1,138 @@
+package mode.task;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+
+import exception.InvalidTaskFormatException;
+
+/**
+ * A task that repeats every fixed number of days, stored as a single rule instead of one task per occurrence.
+ * <p>
+ * Occurrences are generated on demand for a queried window. Completed occurrences are tracked
+ * as a bit set indexed by occurrence number (0 for the start date, 1 for the next, ...), so a
+ * year of daily completions costs under 50 bytes.
+ * </p>
+ */
+public class Recurring extends Task {
+    protected final int stepDays;
+    protected final LocalDate start;
+    protected final LocalDate until; // Null if the task repeats indefinitely
+    private BitSet completedOccurrences;
+
+    public Recurring(String description, int stepDays, LocalDate start, LocalDate until) {
+        this(description, false, false, false, stepDays, start, until, new BitSet());
+    }
+
+    public Recurring(String description, boolean isCompleted, boolean isUrgent, boolean isImportant,
+            int stepDays, LocalDate start, LocalDate until, BitSet completedOccurrences) {
+        super(description, isCompleted, isUrgent, isImportant);
+        this.stepDays = stepDays;
+        this.start = start;
+        this.until = until;
+        this.completedOccurrences = completedOccurrences;
+    }
+
+    /**
+     * Generates the occurrence dates that fall within a window.
+     *
+     * @param from The first date of the window, inclusive.
+     * @param to   The last date of the window, inclusive.
+     * @return The occurrence dates in order, possibly empty.
+     */
+    public List<LocalDate> getOccurrences(LocalDate from, LocalDate to) {
+        List<LocalDate> occurrences = new ArrayList<>();
+        LocalDate last = (until != null && until.isBefore(to)) ? until : to;
+
+        long first = Math.max(0, Math.floorDiv(ChronoUnit.DAYS.between(start, from) + stepDays - 1, stepDays));
+        for (LocalDate date = start.plusDays(first * stepDays); !date.isAfter(last); date = date.plusDays(stepDays)) {
+            occurrences.add(date);
+        }
+        return occurrences;
+    }
+
+    public boolean isOccurrenceCompleted(LocalDate date) {
+        int ordinal = ordinalOf(date);
+        return ordinal >= 0 && completedOccurrences.get(ordinal);
+    }
+
+    /**
+     * Marks a single occurrence as done or not done.
+     *
+     * @param date   The date of the occurrence.
+     * @param isDone The new status of the occurrence.
+     * @throws InvalidTaskFormatException If the task does not occur on that date.
+     */
+    void setOccurrenceCompleted(LocalDate date, boolean isDone) throws InvalidTaskFormatException {
+        int ordinal = ordinalOf(date);
+        if (ordinal < 0) {
+            throw new InvalidTaskFormatException("\"" + getDescription() + "\" does not occur on " + date + ".");
+        }
+        completedOccurrences.set(ordinal, isDone);
+    }
+
+    // Returns the occurrence number of a date, or -1 if the task does not occur on it
+    private int ordinalOf(LocalDate date) {
+        long days = ChronoUnit.DAYS.between(start, date);
+        if (days < 0 || days % stepDays != 0 || (until != null && date.isAfter(until))
+                || days / stepDays > Integer.MAX_VALUE - 1) {
+            return -1;
+        }
+        return (int) (days / stepDays);
+    }
+
+    @Override
+    void copyStateFrom(Task other) {
+        super.copyStateFrom(other);
+        completedOccurrences = (BitSet) ((Recurring) other).completedOccurrences.clone();
+    }
+
+    /**
+     * Parses a repetition such as "day", "week", "3 days" or "2 weeks" into a number of days.
+     *
+     * @throws InvalidTaskFormatException If the repetition is not recognised.
+     */
+    static int parseStep(String every) throws InvalidTaskFormatException {
+        String[] parts = every.trim().toLowerCase().split("\\s+");
+        try {
+            int count = parts.length == 2 ? Integer.parseInt(parts[0]) : 1;
+            String unit = parts[parts.length - 1];
+            int unitDays = switch (unit) {
+            case "day", "days" -> 1;
+            case "week", "weeks" -> 7;
+            default -> 0;
+            };
+            if (parts.length <= 2 && count > 0 && unitDays > 0) {
+                return Math.multiplyExact(count, unitDays);
+            }
+        } catch (NumberFormatException | ArithmeticException e) {
+            // Fall through to the usage error
+        }
+        throw new InvalidTaskFormatException("Repeat with /every day, /every week, /every [n] days or /every [n] weeks.");
+    }
+
+    // Formats the completed occurrences for storage, empty if there are none
+    String encodeCompletedOccurrences() {
+        return Base64.getEncoder().encodeToString(completedOccurrences.toByteArray());
+    }
+
+    static BitSet decodeCompletedOccurrences(String encoded) {
+        return BitSet.valueOf(Base64.getDecoder().decode(encoded));
+    }
+
+    private String describeStep() {
+        if (stepDays % 7 == 0) {
+            return stepDays == 7 ? "week" : (stepDays / 7) + " weeks";
+        }
+        return stepDays == 1 ? "day" : stepDays + " days";
+    }
+
+    @Override
+    public String toString() {
+        return "[R] " + super.toString() + " (every " + describeStep() + " from " + start
+                + (until != null ? " until " + until : "") + ")";
+    }
+}
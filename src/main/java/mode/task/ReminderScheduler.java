@@ -0,0 +1,228 @@
+package mode.task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import eggo.OutputHandler;
+
+/**
+ * Prints a reminder shortly before each pending deadline is due, each event starts,
+ * and each occurrence of a recurring task begins.
+ * <p>
+ * Upcoming reminders are kept in a priority queue ordered by firing time. The queue is built
+ * once from the task list and then updated from {@link TaskChangeFeed}, so scheduling or
+ * cancelling a reminder costs O(log n) and the task list is never rescanned. A single daemon
+ * thread sleeps until the earliest reminder is due, rather than polling.
+ * </p>
+ * <p>
+ * Reminders fire {@code eggo.reminder.leadMinutes} minutes before the due time (default 15).
+ * Only tasks whose date is in a recognised format get reminders, and due times that have
+ * already passed are skipped.
+ * </p>
+ */
+public class ReminderScheduler {
+
+    public static final long LEAD_MINUTES = Long.getLong("eggo.reminder.leadMinutes", 15);
+
+    private static final DateTimeFormatter DUE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+
+    // Rebuild the heap once cancelled entries make up more than half of it
+    private static final int MIN_COMPACTION_SIZE = 1024;
+
+    private static PriorityQueue<Reminder> queue = new PriorityQueue<>();
+    private static final Map<Task, Reminder> pending = new IdentityHashMap<>();
+    private static int cancelledCount;
+    private static Thread dispatcher;
+
+    /**
+     * A scheduled reminder. Cancelled reminders stay in the queue and are discarded
+     * when they reach its head, so that cancelling does not need to search the heap.
+     */
+    private static final class Reminder implements Comparable<Reminder> {
+        private final Task task;
+        private final LocalDateTime due;
+        private final long fireAt;
+        private boolean isCancelled;
+
+        private Reminder(Task task, LocalDateTime due) {
+            this.task = task;
+            this.due = due;
+            this.fireAt = toEpochMillis(due.minusMinutes(LEAD_MINUTES));
+        }
+
+        @Override
+        public int compareTo(Reminder other) {
+            int order = Long.compare(fireAt, other.fireAt);
+            return order != 0 ? order : Long.compare(task.serial, other.task.serial);
+        }
+    }
+
+    /**
+     * Replaces all scheduled reminders with those for the given task list,
+     * e.g. after the task list has been loaded.
+     *
+     * @param tasks The full task list.
+     */
+    static synchronized void rebuild(List<Task> tasks) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Reminder> reminders = new ArrayList<>();
+        pending.clear();
+        for (Task task : tasks) {
+            Reminder reminder = createReminder(task, now);
+            if (reminder != null) {
+                reminders.add(reminder);
+                pending.put(task, reminder);
+            }
+        }
+        queue = new PriorityQueue<>(reminders); // Heapifies in O(n)
+        cancelledCount = 0;
+        startDispatcher();
+        ReminderScheduler.class.notifyAll();
+    }
+
+    /**
+     * Updates the scheduled reminders for a single change. Registered as a {@link TaskChangeListener}.
+     */
+    static synchronized void onChange(TaskChange change) {
+        Task task = change.getTask();
+        switch (change.getType()) {
+        case ADDED -> schedule(task, LocalDateTime.now());
+        case DELETED, ARCHIVED -> cancel(task);
+        case FLAG_CHANGED -> {
+            cancel(task);
+            schedule(task, LocalDateTime.now());
+        }
+        default -> {
+            // The description is read when the reminder fires, so renaming needs no update
+        }
+        }
+    }
+
+    public static synchronized String getStats() {
+        Reminder next = peekNext();
+        return "Reminders: " + pending.size() + " pending"
+                + (next == null ? "" : ", next due " + DUE_FORMAT.format(next.due));
+    }
+
+    private static void schedule(Task task, LocalDateTime after) {
+        Reminder reminder = createReminder(task, after);
+        if (reminder == null) {
+            return;
+        }
+        pending.put(task, reminder);
+        queue.add(reminder);
+        startDispatcher();
+        if (queue.peek() == reminder) {
+            ReminderScheduler.class.notifyAll(); // The dispatcher may be waiting for a later reminder
+        }
+    }
+
+    private static void cancel(Task task) {
+        Reminder reminder = pending.remove(task);
+        if (reminder == null) {
+            return;
+        }
+        reminder.isCancelled = true;
+        cancelledCount++;
+        if (cancelledCount > MIN_COMPACTION_SIZE && cancelledCount > queue.size() / 2) {
+            queue.removeIf(entry -> entry.isCancelled);
+            cancelledCount = 0;
+        }
+    }
+
+    // Returns the reminder for the task's next due time after the given time, or null if there is none
+    private static Reminder createReminder(Task task, LocalDateTime after) {
+        if (task.isCompleted) {
+            return null;
+        }
+        LocalDateTime due = null;
+        if (task instanceof Deadline deadline) {
+            due = deadline.getDue();
+        } else if (task instanceof Event event) {
+            due = event.getStart();
+        } else if (task instanceof Recurring recurring) {
+            due = nextOccurrence(recurring, after);
+        }
+        return (due != null && due.isAfter(after)) ? new Reminder(task, due) : null;
+    }
+
+    // Finds the start of the first pending occurrence after the given time
+    private static LocalDateTime nextOccurrence(Recurring recurring, LocalDateTime after) {
+        LocalDate from = after.toLocalDate().plusDays(1);
+        if (from.isBefore(recurring.start)) {
+            from = recurring.start;
+        }
+        while (true) {
+            List<LocalDate> occurrences = recurring.getOccurrences(from, from.plusDays(recurring.stepDays - 1));
+            if (occurrences.isEmpty()) {
+                return null;
+            }
+            LocalDate date = occurrences.get(0);
+            if (!recurring.isOccurrenceCompleted(date)) {
+                return date.atStartOfDay();
+            }
+            from = date.plusDays(1);
+        }
+    }
+
+    private static Reminder peekNext() {
+        while (!queue.isEmpty() && queue.peek().isCancelled) {
+            queue.poll();
+            cancelledCount--;
+        }
+        return queue.peek();
+    }
+
+    private static void startDispatcher() {
+        if (dispatcher != null) {
+            return;
+        }
+        dispatcher = new Thread(ReminderScheduler::dispatch, "eggo-reminders");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    private static void dispatch() {
+        try {
+            while (true) {
+                Reminder reminder = takeNext();
+                OutputHandler.printInfo("Reminder (" + DUE_FORMAT.format(reminder.due) + "): " + reminder.task);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Waits until the earliest reminder is due, then removes it and schedules the task's next occurrence
+    private static synchronized Reminder takeNext() throws InterruptedException {
+        while (true) {
+            Reminder next = peekNext();
+            if (next == null) {
+                ReminderScheduler.class.wait();
+                continue;
+            }
+            long delay = next.fireAt - System.currentTimeMillis();
+            if (delay > 0) {
+                ReminderScheduler.class.wait(delay);
+                continue;
+            }
+            queue.poll();
+            pending.remove(next.task);
+            if (next.task instanceof Recurring) {
+                schedule(next.task, next.due);
+            }
+            return next;
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,169 @@
+package mode.task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import eggo.OutputHandler;
+
+/**
+ * Serves the task list to replica processes over a loopback socket.
+ * <p>
+ * Each replica first receives a snapshot ({@code SNAPSHOT|sequence|count} followed by one
+ * encoded task per line), then every subsequent change ({@code CHANGE|<feed line>}) and periodic
+ * {@code HEARTBEAT|sequence} messages. The snapshot is captured in memory and, like every later
+ * change, sent by the replica's own sender thread, so that a slow replica never blocks the
+ * primary; a replica that falls too far behind is disconnected and resyncs.
+ * </p>
+ */
+class ReplicationPrimary implements TaskChangeListener {
+
+    private static final int MAX_QUEUED_MESSAGES = 10_000;
+
+    private final int port;
+    private final long heartbeatMillis;
+    private final List<Follower> followers = new CopyOnWriteArrayList<>();
+
+    ReplicationPrimary(int port, long heartbeatMillis) {
+        this.port = port;
+        this.heartbeatMillis = heartbeatMillis;
+    }
+
+    void start() {
+        ServerSocket server;
+        try {
+            server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        } catch (IOException e) {
+            OutputHandler.printError("Failed to start replication on port " + port + ": " + e.getMessage());
+            return;
+        }
+
+        // Load the task list now, so the accept thread never locks a class that is still initializing
+        TaskManager.getTasks();
+        TaskChangeFeed.addListener(this);
+        startDaemon("eggo-replication-accept", () -> acceptLoop(server));
+        startDaemon("eggo-replication-heartbeat", this::heartbeatLoop);
+    }
+
+    @Override
+    public void onChange(TaskChange change) {
+        broadcast("CHANGE|" + change);
+    }
+
+    private void acceptLoop(ServerSocket server) {
+        while (true) {
+            try {
+                Socket socket = server.accept();
+                Follower follower = new Follower(socket);
+                // Hold the task list lock so no change slips between the snapshot and registration
+                synchronized (TaskManager.class) {
+                    follower.captureSnapshot();
+                    followers.add(follower);
+                }
+                startDaemon("eggo-replication-sender", follower::sendLoop);
+            } catch (IOException e) {
+                OutputHandler.printError("Replication connection failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private void heartbeatLoop() {
+        while (true) {
+            try {
+                Thread.sleep(heartbeatMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            // Hold the feed lock so the heartbeat cannot overtake a change with the same sequence
+            synchronized (TaskChangeFeed.class) {
+                broadcast("HEARTBEAT|" + TaskChangeFeed.getSequence());
+            }
+        }
+    }
+
+    private void broadcast(String message) {
+        for (Follower follower : followers) {
+            if (!follower.queue.offer(message)) {
+                follower.close(); // Too far behind, the replica will reconnect and resync
+            }
+        }
+    }
+
+    private static void startDaemon(String name, Runnable body) {
+        Thread thread = new Thread(body, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private class Follower {
+        private final Socket socket;
+        private final BufferedWriter writer;
+        private final BlockingQueue<String> queue = new LinkedBlockingQueue<>(MAX_QUEUED_MESSAGES);
+        private List<String> snapshot; // Sent before any queued message, then released
+
+        Follower(Socket socket) throws IOException {
+            this.socket = socket;
+            this.writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+        }
+
+        // Encodes the current task list without touching the socket, so the caller's lock is held briefly
+        void captureSnapshot() {
+            List<Task> tasks = TaskManager.getTasks();
+            List<String> lines = new ArrayList<>(tasks.size() + 1);
+            lines.add("SNAPSHOT|" + TaskChangeFeed.getSequence() + "|" + tasks.size());
+            for (Task task : tasks) {
+                lines.add(TaskStorage.encode(task));
+            }
+            snapshot = lines;
+        }
+
+        void sendLoop() {
+            try {
+                for (String line : snapshot) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+                snapshot = null;
+                writer.flush();
+                while (!socket.isClosed()) {
+                    String message = queue.poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+                    if (message == null) {
+                        continue;
+                    }
+                    writer.write(message);
+                    writer.newLine();
+                    // Drain whatever else is pending before paying for a flush
+                    while ((message = queue.poll()) != null) {
+                        writer.write(message);
+                        writer.newLine();
+                    }
+                    writer.flush();
+                }
+            } catch (IOException | InterruptedException e) {
+                // The replica went away
+            } finally {
+                close();
+            }
+        }
+
+        void close() {
+            followers.remove(this);
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // Already closed
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package mode.task;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Follows a {@link ReplicationPrimary} and mirrors its task list into this process.
+ * <p>
+ * The replica reconnects and requests a fresh snapshot whenever the connection drops
+ * or a gap in the change sequence is detected.
+ * </p>
+ */
+class ReplicationReplica {
+
+    private static final long RECONNECT_DELAY_MS = 500;
+
+    private final int port;
+    private final Object syncMonitor = new Object();
+
+    private volatile long lastContactMillis = -1; // -1 until the first snapshot arrives
+    private long sequence;
+
+    ReplicationReplica(int port) {
+        this.port = port;
+    }
+
+    void start() {
+        Thread thread = new Thread(this::followLoop, "eggo-replication-replica");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Blocks until the first snapshot has been applied or the timeout elapses.
+     */
+    void awaitFirstSnapshot(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (syncMonitor) {
+            long remaining;
+            while (lastContactMillis < 0 && (remaining = deadline - System.currentTimeMillis()) > 0) {
+                try {
+                    syncMonitor.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns how long ago the primary was last heard from, or {@code Long.MAX_VALUE}
+     * if the replica has never synchronised.
+     */
+    long getStalenessMillis() {
+        if (lastContactMillis < 0) {
+            return Long.MAX_VALUE;
+        }
+        return System.currentTimeMillis() - lastContactMillis;
+    }
+
+    private void followLoop() {
+        while (true) {
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+                    BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    handle(line, reader);
+                }
+            } catch (IOException | RuntimeException e) {
+                // Fall through and reconnect for a fresh snapshot
+            }
+
+            try {
+                Thread.sleep(RECONNECT_DELAY_MS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void handle(String line, BufferedReader reader) throws IOException {
+        String[] parts = line.split("\\|", 2);
+        switch (parts[0]) {
+        case "SNAPSHOT" -> {
+            String[] header = parts[1].split("\\|");
+            long snapshotSequence = Long.parseLong(header[0]);
+            int count = Integer.parseInt(header[1]);
+            List<Task> snapshot = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String encoded = reader.readLine();
+                if (encoded == null) {
+                    throw new IOException("Snapshot truncated");
+                }
+                snapshot.add(TaskStorage.decode(encoded));
+            }
+            TaskManager.replaceReplicatedTasks(snapshot, snapshotSequence);
+            sequence = snapshotSequence;
+        }
+        case "CHANGE" -> {
+            String[] fields = parts[1].split("\\|", 4);
+            long changeSequence = Long.parseLong(fields[0]);
+            if (changeSequence != sequence + 1) {
+                throw new IllegalStateException("Missed changes before " + changeSequence);
+            }
+            TaskChange change = new TaskChange(changeSequence, TaskChange.Type.valueOf(fields[1]),
+                    Integer.parseInt(fields[2]), TaskStorage.decode(fields[3]), fields[3]);
+            TaskManager.applyReplicatedChange(change);
+            sequence = changeSequence;
+        }
+        case "HEARTBEAT" -> {
+            if (Long.parseLong(parts[1]) != sequence) {
+                throw new IllegalStateException("Replica diverged from the primary");
+            }
+        }
+        default -> throw new IllegalStateException("Unknown replication message: " + parts[0]);
+        }
+
+        synchronized (syncMonitor) {
+            lastContactMillis = System.currentTimeMillis();
+            syncMonitor.notifyAll();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package mode.task;
+
+import java.lang.ref.WeakReference;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Deduplicates strings that repeat across tasks, such as recurring descriptions ("standup")
+ * and dates ("2025-01-01 0900"), so that each distinct value is stored on the heap only once.
+ * <p>
+ * Entries are held weakly, so a value is dropped from the pool once no task refers to it,
+ * e.g. after the task is deleted or renamed. The pool is also bounded by the
+ * {@code eggo.pool.maxEntries} system property (default 65536); while it is full, new values
+ * are not admitted, but existing entries are still shared.
+ * </p>
+ */
+class StringPool {
+
+    private static final int MAX_ENTRIES = Integer.getInteger("eggo.pool.maxEntries", 1 << 16);
+
+    // Approximate heap cost of a String object and the header of its backing array
+    private static final int STRING_OVERHEAD_BYTES = 40;
+
+    private static final Map<String, WeakReference<String>> pool = new WeakHashMap<>();
+    private static long hits;
+    private static long misses;
+
+    /**
+     * Returns the pooled instance equal to the given string, adding it to the pool if there is room.
+     *
+     * @param value The string to deduplicate, may be null.
+     * @return An equal string, shared with other callers where possible.
+     */
+    static synchronized String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        WeakReference<String> reference = pool.get(value);
+        String pooled = reference != null ? reference.get() : null;
+        if (pooled != null) {
+            hits++;
+            return pooled;
+        }
+
+        misses++;
+        if (pool.size() < MAX_ENTRIES) {
+            pool.put(value, new WeakReference<>(value));
+        }
+        return value;
+    }
+
+    /**
+     * Describes the pool's size, hit rate and the savings it currently provides.
+     * Savings are counted from the given tasks, so values no longer in use are not included.
+     *
+     * @param tasks The live task list.
+     */
+    static synchronized String getStats(List<Task> tasks) {
+        Map<String, Integer> references = new IdentityHashMap<>();
+        for (Task task : tasks) {
+            countPooled(task.getDescription(), references);
+            if (task instanceof Deadline deadline) {
+                countPooled(deadline.by, references);
+            } else if (task instanceof Event event) {
+                countPooled(event.from, references);
+                countPooled(event.to, references);
+            }
+        }
+
+        long bytesSaved = 0;
+        for (Map.Entry<String, Integer> entry : references.entrySet()) {
+            bytesSaved += (long) (entry.getValue() - 1) * (STRING_OVERHEAD_BYTES + entry.getKey().length());
+        }
+        return "String pool: " + pool.size() + "/" + MAX_ENTRIES + " entries, "
+                + hits + " hits, " + misses + " misses, ~" + (bytesSaved / 1024) + " KiB saved";
+    }
+
+    // Counts a reference to the value if it is the pooled instance
+    private static void countPooled(String value, Map<String, Integer> references) {
+        WeakReference<String> reference = value != null ? pool.get(value) : null;
+        if (reference != null && reference.get() == value) {
+            references.merge(value, 1, Integer::sum);
+        }
+    }
+}
@@ -1,20 +1,93 @@
 package mode.task;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.atomic.AtomicLong;
+
 public abstract class Task {
-    protected String description;
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+    private static final AtomicLong nextSerial = new AtomicLong();
+
+    private String description; // Null while the description is held compressed
+    private byte[] compressedDescription;
     protected boolean isCompleted;
+    protected long completedAt; // Epoch milliseconds when the task was marked done, 0 if not done
     protected boolean isUrgent;
     protected boolean isImportant;
 
+    // Creation order, used to order tasks that otherwise compare equal
+    final long serial = nextSerial.getAndIncrement();
+
     public Task(String description, boolean isCompleted, boolean isUrgent, boolean isImportant) {
-        this.description = description;
+        setDescription(description);
         this.isCompleted = isCompleted;
+        this.completedAt = isCompleted ? System.currentTimeMillis() : 0;
         this.isUrgent = isUrgent;
         this.isImportant = isImportant;
     }
 
     public String getDescription() {
-        return description;
+        return description != null ? description : DescriptionCompressor.decompress(compressedDescription);
+    }
+
+    // Returns the compressed description, or null if it is stored as a plain string
+    byte[] getCompressedDescription() {
+        return compressedDescription;
+    }
+
+    /**
+     * Sets the description, sharing it through {@link StringPool} or compressing it
+     * with {@link DescriptionCompressor} if it is long enough.
+     */
+    void setDescription(String description) {
+        byte[] compressed = DescriptionCompressor.shouldCompress(description)
+                ? DescriptionCompressor.compress(description)
+                : null;
+        this.compressedDescription = compressed;
+        this.description = compressed == null ? StringPool.intern(description) : null;
+    }
+
+    /**
+     * Marks the task as done or not done, recording when it was done.
+     */
+    void setCompleted(boolean isCompleted) {
+        if (this.isCompleted != isCompleted) {
+            completedAt = isCompleted ? System.currentTimeMillis() : 0;
+        }
+        this.isCompleted = isCompleted;
+    }
+
+    /**
+     * Copies the mutable state of another task of the same type into this task.
+     */
+    void copyStateFrom(Task other) {
+        description = other.description;
+        compressedDescription = other.compressedDescription;
+        isCompleted = other.isCompleted;
+        completedAt = other.completedAt;
+        isUrgent = other.isUrgent;
+        isImportant = other.isImportant;
+    }
+
+    /**
+     * Parses a time in the recommended "yyyy-MM-dd HHmm" or "yyyy-MM-dd" format.
+     *
+     * @param time The time as entered by the user.
+     * @return The parsed time, or null if the time is free text such as "Monday 9pm".
+     */
+    protected static LocalDateTime parseDateTime(String time) {
+        try {
+            return LocalDateTime.parse(time.trim(), DATE_TIME_FORMAT);
+        } catch (DateTimeParseException e) {
+            // Fall through to a date without time
+        }
+        try {
+            return LocalDate.parse(time.trim()).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
     }
 
     protected String getStatusString() {
@@ -23,6 +96,6 @@ public abstract class Task {
 
     @Override
     public String toString() {
-        return getStatusString() + description;
+        return getStatusString() + getDescription();
     }
 }
\ No newline at end of file
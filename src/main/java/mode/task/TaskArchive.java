@@ -0,0 +1,114 @@
+package mode.task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+
+import eggo.OutputHandler;
+
+import exception.CorruptedTaskEntryException;
+
+/**
+ * Stores completed tasks that have been moved out of the working task list.
+ * <p>
+ * The archive is an append-only, gzip-compressed file ({@code task_archive.gz} in the data
+ * directory) using the {@link TaskStorage} line format. Each archiving run appends a new gzip
+ * member, so existing data is never rewritten. The archive is only read when it is queried,
+ * and is then kept in memory for later queries.
+ * </p>
+ * <p>
+ * Completed tasks are archived once they have been done for longer than the
+ * {@code eggo.archive.afterDays} system property (default 7 days).
+ * </p>
+ */
+public class TaskArchive {
+
+    public static final long ARCHIVE_AFTER_DAYS = Long.getLong("eggo.archive.afterDays", 7);
+
+    private static final String ARCHIVE_PATH = TaskStorage.DATA_DIR + "/task_archive.gz";
+
+    private static List<Task> archivedTasks; // Null until the archive is first queried
+
+    /**
+     * Checks whether a task has been completed for long enough to be archived.
+     *
+     * @param task The task to check.
+     * @param now  The current time in epoch milliseconds.
+     */
+    static boolean isArchivable(Task task, long now) {
+        return task.isCompleted && now - task.completedAt >= ARCHIVE_AFTER_DAYS * 24 * 60 * 60 * 1000;
+    }
+
+    /**
+     * Appends tasks to the archive file.
+     *
+     * @param tasks The tasks to archive.
+     * @throws IOException If the archive could not be written, in which case nothing should be
+     *                     removed from the working task list.
+     */
+    static synchronized void append(List<Task> tasks) throws IOException {
+        File file = new File(ARCHIVE_PATH);
+        File directory = file.getParentFile();
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Failed to create directory: " + directory.getAbsolutePath());
+        }
+
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(new FileOutputStream(file, true)), StandardCharsets.UTF_8))) {
+            for (Task task : tasks) {
+                writer.write(TaskStorage.encode(task));
+                writer.newLine();
+            }
+        }
+
+        if (archivedTasks != null) {
+            archivedTasks.addAll(tasks);
+        }
+    }
+
+    /**
+     * Returns all archived tasks, oldest archived first, reading the archive file on first use.
+     */
+    public static synchronized List<Task> getArchivedTasks() {
+        if (archivedTasks == null) {
+            archivedTasks = load();
+        }
+        return Collections.unmodifiableList(archivedTasks);
+    }
+
+    private static List<Task> load() {
+        List<Task> loaded = new ArrayList<>();
+        File file = new File(ARCHIVE_PATH);
+        if (!file.exists()) {
+            return loaded;
+        }
+
+        // GZIPInputStream reads all appended gzip members in sequence
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new FileInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                try {
+                    loaded.add(TaskStorage.decode(line));
+                } catch (CorruptedTaskEntryException e) {
+                    OutputHandler.printError(e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            OutputHandler.printError("Error loading archived tasks: " + e.getMessage());
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,65 @@
+package mode.task;
+
+/**
+ * Represents a single mutation of the task list, as published by {@link TaskChangeFeed}.
+ * <p>
+ * Every change carries a sequence number that increases by one per mutation, the position of
+ * the affected task in the list at the time of the change, and the task in its storage encoding
+ * (see {@link TaskStorage}) so that consumers can apply changes without rereading the task file.
+ * </p>
+ */
+public class TaskChange {
+
+    /**
+     * The kinds of mutations that can be applied to the task list.
+     */
+    public enum Type {
+        ADDED, RENAMED, FLAG_CHANGED, DELETED, ARCHIVED
+    }
+
+    private final long sequence;
+    private final Type type;
+    private final int index;
+    private final Task task;
+    private final String encodedTask;
+
+    public TaskChange(long sequence, Type type, int index, Task task, String encodedTask) {
+        this.sequence = sequence;
+        this.type = type;
+        this.index = index;
+        this.task = task;
+        this.encodedTask = encodedTask;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the zero-based position of the task in the list when the change was applied.
+     * For deletions and archiving, this is the position the task occupied before it was removed.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public Task getTask() {
+        return task;
+    }
+
+    public String getEncodedTask() {
+        return encodedTask;
+    }
+
+    /**
+     * Formats the change as a single line of the feed file: {@code sequence|type|index|encoded task}.
+     */
+    @Override
+    public String toString() {
+        return sequence + "|" + type + "|" + index + "|" + encodedTask;
+    }
+}
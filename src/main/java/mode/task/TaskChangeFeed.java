@@ -0,0 +1,180 @@
+package mode.task;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+
+import eggo.OutputHandler;
+
+/**
+ * Publishes every mutation of the task list as a numbered {@link TaskChange}.
+ * <p>
+ * Changes are delivered in-process to registered {@link TaskChangeListener}s and appended to
+ * an append-only feed file ({@code task_changes.txt} in the data directory), one change per
+ * line, so that other processes can follow the task list by tailing the file instead of
+ * rereading the whole task file. Sequence numbers continue from the last entry of the feed
+ * file across sessions.
+ * </p>
+ */
+public class TaskChangeFeed {
+
+    private static final String FEED_PATH = TaskStorage.DATA_DIR + "/task_changes.txt";
+
+    private static final List<TaskChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    private static long sequence = -1; // Restored lazily from the feed file
+    private static BufferedWriter writer;
+
+    public static void addListener(TaskChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    public static void removeListener(TaskChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns the sequence number of the most recently published change, or 0 if there is none.
+     */
+    public static synchronized long getSequence() {
+        if (sequence < 0) {
+            sequence = readLastSequence();
+        }
+        return sequence;
+    }
+
+    /**
+     * Records a mutation, appends it to the feed file and notifies all listeners.
+     *
+     * @param type  The kind of mutation.
+     * @param index The position of the affected task at the time of the change.
+     * @param task  The affected task, in its state after the change.
+     * @return The published change.
+     */
+    static synchronized TaskChange publish(TaskChange.Type type, int index, Task task) {
+        TaskChange change = record(type, index, task);
+        flush();
+        return change;
+    }
+
+    /**
+     * Publishes the same kind of change for consecutive tasks, flushing the feed file only once.
+     *
+     * @param type       The kind of mutation.
+     * @param firstIndex The position of the first task; each following task is one position later.
+     * @param tasks      The affected tasks, in list order.
+     */
+    static synchronized void publishAll(TaskChange.Type type, int firstIndex, List<Task> tasks) {
+        for (int i = 0; i < tasks.size(); i++) {
+            record(type, firstIndex + i, tasks.get(i));
+        }
+        flush();
+    }
+
+    // Assigns the next sequence number, appends the change to the feed and notifies listeners
+    private static TaskChange record(TaskChange.Type type, int index, Task task) {
+        TaskChange change = new TaskChange(getSequence() + 1, type, index, task, TaskStorage.encode(task));
+        sequence = change.getSequence();
+        append(change);
+        for (TaskChangeListener listener : listeners) {
+            listener.onChange(change);
+        }
+        return change;
+    }
+
+    /**
+     * Notifies listeners of a change that was applied elsewhere, such as on a replication primary.
+     * The change keeps its original sequence number and is not written to the feed file.
+     *
+     * @param change The change that was applied to the local task list.
+     */
+    static synchronized void replay(TaskChange change) {
+        sequence = change.getSequence();
+        for (TaskChangeListener listener : listeners) {
+            listener.onChange(change);
+        }
+    }
+
+    /**
+     * Sets the sequence number that the local task list corresponds to, e.g. after a snapshot.
+     */
+    static synchronized void resetSequence(long newSequence) {
+        sequence = newSequence;
+    }
+
+    // Appends the change to the feed file, keeping the writer open between changes
+    private static void append(TaskChange change) {
+        try {
+            if (writer == null) {
+                File file = new File(FEED_PATH);
+                File directory = file.getParentFile();
+                if (!directory.exists() && !directory.mkdirs()) {
+                    throw new IOException("Failed to create directory: " + directory.getAbsolutePath());
+                }
+                writer = new BufferedWriter(new FileWriter(file, StandardCharsets.UTF_8, true));
+            }
+            writer.write(change.toString());
+            writer.newLine();
+        } catch (IOException e) {
+            OutputHandler.printError("Error writing task change feed: " + e.getMessage());
+        }
+    }
+
+    // Makes the appended changes visible to tailing processes
+    private static void flush() {
+        try {
+            if (writer != null) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            OutputHandler.printError("Error writing task change feed: " + e.getMessage());
+        }
+    }
+
+    // Reads the sequence number of the last line in the feed file without scanning the whole file
+    private static long readLastSequence() {
+        File file = new File(FEED_PATH);
+        if (!file.exists()) {
+            return 0;
+        }
+
+        try (RandomAccessFile feed = new RandomAccessFile(file, "r")) {
+            long position = feed.length() - 1;
+            // Skip the trailing line separator(s)
+            while (position >= 0 && isLineBreak(readAt(feed, position))) {
+                position--;
+            }
+            long end = position;
+            while (position >= 0 && !isLineBreak(readAt(feed, position))) {
+                position--;
+            }
+            if (end < 0) {
+                return 0;
+            }
+
+            byte[] lastLine = new byte[(int) (end - position)];
+            feed.seek(position + 1);
+            feed.readFully(lastLine);
+            String line = new String(lastLine, StandardCharsets.UTF_8);
+            return Long.parseLong(line.substring(0, line.indexOf('|')));
+        } catch (IOException | RuntimeException e) {
+            OutputHandler.printError("Error reading task change feed, restarting sequence: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    private static int readAt(RandomAccessFile file, long position) throws IOException {
+        file.seek(position);
+        return file.read();
+    }
+
+    private static boolean isLineBreak(int c) {
+        return c == '\n' || c == '\r';
+    }
+}
@@ -0,0 +1,16 @@
+package mode.task;
+
+/**
+ * Receives task list mutations published by {@link TaskChangeFeed}.
+ * Listeners are invoked synchronously, in sequence order, on the thread that made the change.
+ */
+@FunctionalInterface
+public interface TaskChangeListener {
+
+    /**
+     * Called after a mutation has been applied to the task list.
+     *
+     * @param change The change that was applied.
+     */
+    void onChange(TaskChange change);
+}
@@ -0,0 +1,49 @@
+package mode.task;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+import exception.CorruptedTaskEntryException;
+import exception.InvalidTaskFormatException;
+
+/**
+ * Reads and writes tasks in a standard interchange format, one task at a time,
+ * so that files of any size can be imported and exported in constant memory.
+ * <p>
+ * A codec instance is bound to a single stream, since a format may keep state
+ * between records (such as a CSV header).
+ * </p>
+ */
+interface TaskCodec {
+
+    /**
+     * Writes anything that has to precede the first task, such as a header row.
+     */
+    void writeHeader(Writer writer) throws IOException;
+
+    void write(Task task, Writer writer) throws IOException;
+
+    /**
+     * Reads the next task.
+     *
+     * @return The task, or null at the end of the input.
+     * @throws CorruptedTaskEntryException If the next record is malformed. The record is
+     *                                     consumed, so reading can continue with the one after.
+     */
+    Task read(Reader reader) throws IOException, CorruptedTaskEntryException;
+
+    /**
+     * Creates a codec for a format name.
+     *
+     * @param format "csv" or "jsonl".
+     * @throws InvalidTaskFormatException If the format is not supported.
+     */
+    static TaskCodec forFormat(String format) throws InvalidTaskFormatException {
+        return switch (format.toLowerCase()) {
+        case "csv" -> new CsvTaskCodec();
+        case "jsonl", "ndjson" -> new JsonLinesTaskCodec();
+        default -> throw new InvalidTaskFormatException("Unsupported format: " + format + ". Use csv or jsonl.");
+        };
+    }
+}
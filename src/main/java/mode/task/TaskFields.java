@@ -0,0 +1,151 @@
+package mode.task;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+import exception.CorruptedTaskEntryException;
+
+/**
+ * Converts tasks to and from a flat record of named text fields, shared by the import/export codecs.
+ * Fields that do not apply to a task type are empty.
+ */
+class TaskFields {
+
+    static final String[] NAMES = {
+        "type", "done", "done_at", "urgent", "important", "description",
+        "by", "from", "to", "every_days", "start", "until", "completed_occurrences"
+    };
+
+    static final int TYPE = 0;
+    static final int DONE = 1;
+    static final int DONE_AT = 2;
+    static final int URGENT = 3;
+    static final int IMPORTANT = 4;
+    static final int DESCRIPTION = 5;
+    static final int BY = 6;
+    static final int FROM = 7;
+    static final int TO = 8;
+    static final int EVERY_DAYS = 9;
+    static final int START = 10;
+    static final int UNTIL = 11;
+    static final int COMPLETED_OCCURRENCES = 12;
+
+    /**
+     * Returns whether a field holds a boolean, so codecs that distinguish types can write it unquoted.
+     */
+    static boolean isBoolean(int field) {
+        return field == DONE || field == URGENT || field == IMPORTANT;
+    }
+
+    /**
+     * Returns whether a field holds a number, so codecs that distinguish types can write it unquoted.
+     */
+    static boolean isNumber(int field) {
+        return field == DONE_AT || field == EVERY_DAYS;
+    }
+
+    /**
+     * Returns the position of a field name in {@link #NAMES}, or -1 if the name is unknown.
+     */
+    static int indexOf(String name) {
+        for (int i = 0; i < NAMES.length; i++) {
+            if (NAMES[i].equalsIgnoreCase(name.trim())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static String[] toFields(Task task) {
+        String[] fields = new String[NAMES.length];
+        Arrays.fill(fields, "");
+
+        fields[DONE] = String.valueOf(task.isCompleted);
+        fields[DONE_AT] = task.isCompleted ? String.valueOf(task.completedAt) : "";
+        fields[URGENT] = String.valueOf(task.isUrgent);
+        fields[IMPORTANT] = String.valueOf(task.isImportant);
+        fields[DESCRIPTION] = task.getDescription();
+
+        if (task instanceof Todo) {
+            fields[TYPE] = "todo";
+        } else if (task instanceof Deadline deadline) {
+            fields[TYPE] = "deadline";
+            fields[BY] = deadline.by;
+        } else if (task instanceof Event event) {
+            fields[TYPE] = "event";
+            fields[FROM] = event.from;
+            fields[TO] = event.to;
+        } else if (task instanceof Recurring recurring) {
+            fields[TYPE] = "recurring";
+            fields[EVERY_DAYS] = String.valueOf(recurring.stepDays);
+            fields[START] = recurring.start.toString();
+            fields[UNTIL] = recurring.until != null ? recurring.until.toString() : "";
+            fields[COMPLETED_OCCURRENCES] = recurring.encodeCompletedOccurrences();
+        }
+        return fields;
+    }
+
+    /**
+     * Builds a task from a record. Missing (null) fields are treated as empty.
+     *
+     * @throws CorruptedTaskEntryException If the record does not describe a valid task.
+     */
+    static Task fromFields(String[] fields) throws CorruptedTaskEntryException {
+        // The description is kept exactly as written, so that export followed by import is lossless
+        String description = fields[DESCRIPTION] == null ? "" : fields[DESCRIPTION];
+        if (description.isBlank()) {
+            throw new CorruptedTaskEntryException("Record has no description.");
+        }
+        boolean isCompleted = parseBoolean(get(fields, DONE));
+        boolean isUrgent = parseBoolean(get(fields, URGENT));
+        boolean isImportant = parseBoolean(get(fields, IMPORTANT));
+        String type = get(fields, TYPE).toLowerCase();
+
+        try {
+            Task task = switch (type) {
+            case "todo" -> new Todo(description, isCompleted, isUrgent, isImportant);
+            case "deadline" -> new Deadline(description, isCompleted, isUrgent, isImportant,
+                    require(fields, BY, type));
+            case "event" -> new Event(description, isCompleted, isUrgent, isImportant,
+                    require(fields, FROM, type), require(fields, TO, type));
+            case "recurring" -> {
+                int stepDays = Integer.parseInt(require(fields, EVERY_DAYS, type));
+                if (stepDays <= 0) {
+                    throw new CorruptedTaskEntryException("Recurring record needs a positive every_days.");
+                }
+                String until = get(fields, UNTIL);
+                yield new Recurring(description, isCompleted, isUrgent, isImportant, stepDays,
+                        LocalDate.parse(require(fields, START, type)),
+                        until.isEmpty() ? null : LocalDate.parse(until),
+                        Recurring.decodeCompletedOccurrences(get(fields, COMPLETED_OCCURRENCES)));
+            }
+            default -> throw new CorruptedTaskEntryException("Unknown task type: " + type);
+            };
+
+            String doneAt = get(fields, DONE_AT);
+            if (isCompleted && !doneAt.isEmpty()) {
+                task.completedAt = Long.parseLong(doneAt);
+            }
+            return task;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CorruptedTaskEntryException("Invalid " + type + " record: " + e.getMessage());
+        }
+    }
+
+    private static String get(String[] fields, int field) {
+        return fields[field] == null ? "" : fields[field].trim();
+    }
+
+    private static String require(String[] fields, int field, String type) throws CorruptedTaskEntryException {
+        String value = get(fields, field);
+        if (value.isEmpty()) {
+            throw new CorruptedTaskEntryException("A " + type + " record needs " + NAMES[field] + ".");
+        }
+        return value;
+    }
+
+    private static boolean parseBoolean(String value) {
+        return value.equalsIgnoreCase("true") || value.equals("1") || value.equalsIgnoreCase("yes");
+    }
+}
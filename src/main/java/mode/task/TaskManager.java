@@ -1,12 +1,24 @@
 package mode.task;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+
 import eggo.OutputHandler;
 
+import exception.CorruptedTaskEntryException;
 import exception.InvalidCommandException;
 import exception.InvalidTaskFormatException;
 import exception.TaskNotFoundException;
@@ -16,16 +28,34 @@ import exception.TaskNotFoundException;
  * <p>
  * This class serves as the central handler for all task-related operations.
  * It interacts with {@link TaskStorage} to persist task data and ensures task-related commands
- * are executed correctly.
+ * are executed correctly. Every mutation is published through {@link TaskChangeFeed}.
+ * </p>
+ * <p>
+ * All operations are synchronized, as a replication thread may apply changes concurrently
+ * (see {@link TaskReplication}).
  * </p>
  */
 public class TaskManager {
 
+    private static final int DEFAULT_NEXT_COUNT = 5;
+    private static final int MAX_WINDOW_DAYS = 366;
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+
     protected static List<Task> tasks;
 
     static {
         tasks = new ArrayList<>();
-        TaskStorage.loadTasks(); // Load existing tasks from file
+        if (!TaskReplication.isReplica()) {
+            TaskStorage.loadTasks(); // Load existing tasks from file
+        }
+        TaskViews.rebuild(tasks);
+        ReminderScheduler.rebuild(tasks);
+        TaskChangeFeed.addListener(TaskViews::onChange);
+        TaskChangeFeed.addListener(ReminderScheduler::onChange);
+        TaskChangeFeed.addListener(change -> FindCache.invalidate());
+        if (!TaskReplication.isReplica()) {
+            archiveCompletedTasks();
+        }
     }
 
     public static List<Task> getTasks() {
@@ -38,12 +68,12 @@ public class TaskManager {
      * @param description Description of the task
      * @throws InvalidTaskFormatException If the description is empty
      */
-    public static void addTodo(String description) throws InvalidTaskFormatException {
+    public static synchronized void addTodo(String description) throws InvalidTaskFormatException {
+        TaskReplication.checkWritable();
         if (description.isEmpty()) {
             throw new InvalidTaskFormatException("Usage: todo [description]");
         }
-        tasks.add(new Todo(description));
-        TaskStorage.saveTasks();
+        addTask(new Todo(description));
         OutputHandler.printInfo("Added: " + description);
     }
 
@@ -54,13 +84,13 @@ public class TaskManager {
      *                  "description /by yyyy-MM-dd HHmm" (Best practice)
      * @throws InvalidTaskFormatException If the format is incorrect
      */
-    public static void addDeadline(String arguments) throws InvalidTaskFormatException {
+    public static synchronized void addDeadline(String arguments) throws InvalidTaskFormatException {
+        TaskReplication.checkWritable();
         String[] parts = arguments.split(" /by ", 2);
         if (parts.length < 2) {
             throw new InvalidTaskFormatException("Usage: deadline [description] /by [time]");
         }
-        tasks.add(new Deadline(parts[0], parts[1]));
-        TaskStorage.saveTasks();
+        addTask(new Deadline(parts[0], parts[1]));
         OutputHandler.printInfo("Added: " + parts[0] + " (by: " + parts[1] + ")");
     }
 
@@ -71,23 +101,92 @@ public class TaskManager {
      *                  "description /from yyyy-MM-dd HHmm /to yyyy-MM-dd HHmm" (Best practice)
      * @throws InvalidTaskFormatException If the format is incorrect
      */
-    public static void addEvent(String arguments) throws InvalidTaskFormatException {
+    public static synchronized void addEvent(String arguments) throws InvalidTaskFormatException {
+        TaskReplication.checkWritable();
         String[] parts = arguments.split(" /from | /to ", 3);
         if (parts.length < 3) {
             throw new InvalidTaskFormatException("Usage: event [description] /from [start time] /to [end time]");
         }
-        tasks.add(new Event(parts[0], parts[1], parts[2]));
-        TaskStorage.saveTasks();
+        addTask(new Event(parts[0], parts[1], parts[2]));
         OutputHandler.printInfo("Added: " + parts[0] + " (from: " + parts[1] + " to: " + parts[2] + ")");
     }
 
+    /**
+     * Adds a new Recurring task that repeats every fixed number of days.
+     *
+     * @param arguments Description, repetition, start date and optional end date in the format:
+     *                  "description /every day|week|n days|n weeks /from yyyy-MM-dd [/until yyyy-MM-dd]"
+     *                  The start date defaults to today.
+     * @throws InvalidTaskFormatException If the format is incorrect
+     */
+    public static synchronized void addRecurring(String arguments) throws InvalidTaskFormatException {
+        TaskReplication.checkWritable();
+        String usage = "Usage: recur [description] /every [day|week|n days|n weeks] /from [yyyy-MM-dd] "
+                + "/until [yyyy-MM-dd]";
+        String[] parts = arguments.split(" /every ", 2);
+        if (parts.length < 2 || parts[0].isBlank()) {
+            throw new InvalidTaskFormatException(usage);
+        }
+
+        String[] untilParts = parts[1].split(" /until ", 2);
+        String[] fromParts = untilParts[0].split(" /from ", 2);
+        int stepDays = Recurring.parseStep(fromParts[0]);
+        LocalDate start = fromParts.length > 1 ? parseDate(fromParts[1], usage) : LocalDate.now();
+        LocalDate until = untilParts.length > 1 ? parseDate(untilParts[1], usage) : null;
+        if (until != null && until.isBefore(start)) {
+            throw new InvalidTaskFormatException("The end date must not be before the start date.");
+        }
+
+        Recurring recurring = new Recurring(parts[0], stepDays, start, until);
+        addTask(recurring);
+        OutputHandler.printInfo("Added: " + recurring);
+    }
+
+    // Parses a yyyy-MM-dd date, reporting the given usage if it is malformed
+    private static LocalDate parseDate(String date, String usage) throws InvalidTaskFormatException {
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (DateTimeParseException e) {
+            throw new InvalidTaskFormatException("Invalid date \"" + date.trim() + "\". " + usage);
+        }
+    }
+
+    // Appends a task, persists the list and publishes the addition
+    private static void addTask(Task task) {
+        tasks.add(task);
+        TaskStorage.saveTasks();
+        TaskChangeFeed.publish(TaskChange.Type.ADDED, tasks.size() - 1, task);
+    }
+
+    /**
+     * Lists tasks, either all of them or through one of the ordered {@link TaskViews}.
+     *
+     * @param arguments Empty to list all tasks, "/matrix" for the Eisenhower matrix
+     *                  or "/next [count]" for the deadlines due soonest
+     * @throws InvalidTaskFormatException If the arguments are not recognised
+     */
+    public static synchronized void listTasks(String arguments) throws InvalidTaskFormatException {
+        TaskReplication.checkReadable();
+        String[] parts = arguments.split(" ", 2);
+
+        switch (parts[0]) {
+        case "" -> listAllTasks();
+        case "/matrix" -> listMatrix();
+        case "/next" -> listNextDue(parts.length > 1 ? parts[1].trim() : "");
+        case "/window" -> listOccurrences(parts.length > 1 ? parts[1].trim() : "");
+        case "/archived" -> listArchivedTasks();
+        default -> throw new InvalidTaskFormatException(
+                "Usage: list, list /matrix, list /next [count], list /window [from] [to] or list /archived");
+        }
+    }
+
     /**
      * Lists all tasks currently stored.
      * <p>
      * Outputs tasks in a numbered format, including their type, status, and description.
      * </p>
      */
-    public static void listTasks() {
+    private static void listAllTasks() {
         if (tasks.isEmpty()) {
             OutputHandler.printInfo("Your task list is empty.");
             return;
@@ -102,18 +201,158 @@ public class TaskManager {
         OutputHandler.print(output.toString());
     }
 
+    // Prints the tasks in the archive, loading it on first use
+    private static void listArchivedTasks() {
+        List<Task> archived = TaskArchive.getArchivedTasks();
+        if (archived.isEmpty()) {
+            OutputHandler.printInfo("Your archive is empty.");
+            return;
+        }
+
+        StringBuilder output = new StringBuilder("Here are your archived tasks:\n");
+        for (int i = 0; i < archived.size(); i++) {
+            output.append(i + 1).append(". ").append(archived.get(i)).append("\n");
+        }
+        output.append("\n").append("Total: ").append(archived.size()).append(" archived task(s).");
+        OutputHandler.print(output.toString());
+    }
+
+    // Prints pending tasks grouped into the four Eisenhower quadrants
+    private static void listMatrix() {
+        StringBuilder output = new StringBuilder("Here is your Eisenhower matrix of pending tasks:\n");
+        for (int i = 0; i < TaskViews.QUADRANT_TITLES.length; i++) {
+            List<Task> quadrant = TaskViews.getQuadrant(i);
+            output.append("\n").append(TaskViews.QUADRANT_TITLES[i]).append(": ").append(quadrant.size()).append("\n");
+            for (Task task : quadrant) {
+                output.append("- ").append(task).append("\n");
+            }
+        }
+        OutputHandler.print(output.toString());
+    }
+
+    // Prints the pending deadlines that are due soonest
+    private static void listNextDue(String countArgument) throws InvalidTaskFormatException {
+        int count;
+        try {
+            count = countArgument.isEmpty() ? DEFAULT_NEXT_COUNT : Integer.parseInt(countArgument);
+        } catch (NumberFormatException e) {
+            throw new InvalidTaskFormatException("Usage: list /next [count]");
+        }
+        if (count <= 0) {
+            throw new InvalidTaskFormatException("Usage: list /next [count]");
+        }
+
+        List<Deadline> nextDue = TaskViews.getNextDue(count);
+        if (nextDue.isEmpty()) {
+            OutputHandler.printInfo("No pending deadlines with a date (use /by yyyy-MM-dd HHmm).");
+            return;
+        }
+
+        StringBuilder output = new StringBuilder("Here are your next deadlines:\n");
+        for (int i = 0; i < nextDue.size(); i++) {
+            output.append(i + 1).append(". ").append(nextDue.get(i)).append("\n");
+        }
+        OutputHandler.print(output.toString());
+    }
+
+    /**
+     * Prints memory statistics: task count, string pool and compression savings, and heap usage.
+     * <p>
+     * A garbage collection is requested first so that the reported heap usage reflects live data.
+     * </p>
+     */
+    public static synchronized void printStats() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long usedBytes = runtime.totalMemory() - runtime.freeMemory();
+
+        String stats = "Tasks: " + tasks.size() + "\n"
+                + StringPool.getStats(tasks) + "\n"
+                + DescriptionCompressor.getStats(tasks) + "\n"
+                + ReminderScheduler.getStats() + "\n"
+                + FindCache.getStats() + "\n"
+                + "Heap: " + (usedBytes / (1024 * 1024)) + " MiB used of "
+                + (runtime.maxMemory() / (1024 * 1024)) + " MiB max";
+        OutputHandler.print(stats);
+    }
+
+    // Prints the occurrences of recurring tasks within a date window, expanding each rule on demand
+    private static void listOccurrences(String window) throws InvalidTaskFormatException {
+        String usage = "Usage: list /window [yyyy-MM-dd] [yyyy-MM-dd]";
+        String[] dates = window.split(" +");
+        if (dates.length != 2) {
+            throw new InvalidTaskFormatException(usage);
+        }
+        LocalDate from = parseDate(dates[0], usage);
+        LocalDate to = parseDate(dates[1], usage);
+        // Each day in the window can produce a line per rule, so keep the window bounded
+        if (to.isAfter(from.plusDays(MAX_WINDOW_DAYS - 1))) {
+            throw new InvalidTaskFormatException("The window can span at most " + MAX_WINDOW_DAYS + " days.");
+        }
+
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            if (tasks.get(i) instanceof Recurring recurring) {
+                for (LocalDate date : recurring.getOccurrences(from, to)) {
+                    // The date leads each line, so sorting the lines orders them by date
+                    lines.add(date + " [" + (recurring.isOccurrenceCompleted(date) ? "X" : " ") + "] "
+                            + recurring.getDescription() + " (task " + (i + 1) + ")");
+                }
+            }
+        }
+
+        if (lines.isEmpty()) {
+            OutputHandler.printInfo("No recurring tasks occur between " + from + " and " + to + ".");
+            return;
+        }
+        lines.sort(null);
+        OutputHandler.print("Here are the occurrences between " + from + " and " + to + ":\n"
+                + String.join("\n", lines));
+    }
+
     /**
      * Updates task done status.
+     * With "[index] /on [yyyy-MM-dd]", only that occurrence of a recurring task is updated.
      */
-    public static void updateTasksDone(String arguments, boolean status)
+    public static synchronized void updateTasksDone(String arguments, boolean status)
+            throws TaskNotFoundException, InvalidCommandException {
+        if (arguments.contains(" /on ")) {
+            updateOccurrenceDone(arguments, status);
+            return;
+        }
+        updateTaskField(arguments, task -> { task.setCompleted(status); return null; }, "marked as done");
+    }
+
+    // Marks a single occurrence of a recurring task as done or not done
+    private static void updateOccurrenceDone(String arguments, boolean status)
             throws TaskNotFoundException, InvalidCommandException {
-        updateTaskField(arguments, task -> { task.isCompleted = status; return null; }, "marked as done");
+        TaskReplication.checkWritable();
+        String usage = "Usage: mark [index] /on [yyyy-MM-dd] or unmark [index] /on [yyyy-MM-dd]";
+        String[] parts = arguments.split(" /on ", 2);
+
+        int index;
+        try {
+            index = Integer.parseInt(parts[0].trim()) - 1;
+        } catch (NumberFormatException e) {
+            throw new InvalidCommandException("Invalid task number format. Use numbers only.", e);
+        }
+        validateIndex(index);
+        if (!(tasks.get(index) instanceof Recurring recurring)) {
+            throw new InvalidTaskFormatException("Task " + (index + 1) + " is not a recurring task.");
+        }
+
+        LocalDate date = parseDate(parts[1], usage);
+        recurring.setOccurrenceCompleted(date, status);
+        TaskStorage.saveTasks();
+        TaskChangeFeed.publish(TaskChange.Type.FLAG_CHANGED, index, recurring);
+        OutputHandler.printInfo("Successfully " + (status ? "marked" : "unmarked") + " \""
+                + recurring.getDescription() + "\" on " + date + ".");
     }
 
     /**
      * Updates task urgency status.
      */
-    public static void updateTaskUrgency(String arguments, boolean status, String message)
+    public static synchronized void updateTaskUrgency(String arguments, boolean status, String message)
             throws TaskNotFoundException, InvalidCommandException {
         updateTaskField(arguments, task -> { task.isUrgent = status; return null; }, message);
     }
@@ -121,7 +360,7 @@ public class TaskManager {
     /**
      * Updates task importance status.
      */
-    public static void updateTaskImportance(String arguments, boolean status, String message)
+    public static synchronized void updateTaskImportance(String arguments, boolean status, String message)
             throws TaskNotFoundException, InvalidCommandException {
         updateTaskField(arguments, task -> { task.isImportant = status; return null; }, message);
     }
@@ -135,6 +374,7 @@ public class TaskManager {
      */
     private static void updateTaskField(String arguments, Function<Task, Void> fieldSetter, String successMsg)
             throws TaskNotFoundException, InvalidCommandException {
+        TaskReplication.checkWritable();
         List<Integer> indices = parseTaskIndices(arguments);
 
         for (int index : indices) {
@@ -143,6 +383,9 @@ public class TaskManager {
 
         OutputHandler.printInfo("Successfully " + successMsg + " tasks: " + arguments + ".");
         TaskStorage.saveTasks();
+        for (int index : indices) {
+            TaskChangeFeed.publish(TaskChange.Type.FLAG_CHANGED, index, tasks.get(index));
+        }
     }
 
 
@@ -153,21 +396,39 @@ public class TaskManager {
      * @throws InvalidTaskFormatException If the search query is empty
      * @throws TaskNotFoundException If no matching tasks are found
      */
-    public static void findTask(String arguments) throws InvalidTaskFormatException, TaskNotFoundException {
+    public static synchronized void findTask(String arguments) throws InvalidTaskFormatException, TaskNotFoundException {
+        TaskReplication.checkReadable();
         if (arguments.isEmpty()) {
-            throw new InvalidTaskFormatException("Usage: find [keyword] or find /type [todo|deadline|event]");
+            throw new InvalidTaskFormatException(
+                    "Usage: find [keyword], find /type [todo|deadline|event|recurring] or find /archived [keyword]");
         }
 
-        List<Task> matchingTasks;
-
+        // Queries are cached under a key that ignores case where matching does
+        String query;
         if (arguments.startsWith("/type ")) {
-            String type = extractTaskType(arguments);
-            matchingTasks = findTasksByType(type);
+            query = "t:" + extractTaskType(arguments);
+        } else if (arguments.startsWith("/archived ")) {
+            query = "a:" + arguments.substring(10).trim().toLowerCase();
         } else {
-            matchingTasks = findTasksByKeyword(arguments);
+            query = "k:" + arguments.toLowerCase();
         }
 
-        printMatchingTasks(matchingTasks, arguments);
+        FindCache.Result result = FindCache.get(query);
+        if (result == null) {
+            List<Task> matchingTasks;
+            if (query.startsWith("t:")) {
+                matchingTasks = findTasksByType(query.substring(2));
+            } else {
+                List<Task> allTasks = query.startsWith("a:") ? TaskArchive.getArchivedTasks() : tasks;
+                matchingTasks = findTasksByKeyword(FindCache.getCandidates(query, 2, allTasks), query.substring(2));
+            }
+            result = FindCache.put(query, matchingTasks, formatMatchingTasks(matchingTasks));
+        }
+
+        if (result.output() == null) {
+            throw new TaskNotFoundException("No matching tasks found for: " + arguments);
+        }
+        OutputHandler.print(result.output());
     }
 
     // Extracts the task type from the command
@@ -176,9 +437,9 @@ public class TaskManager {
     }
 
     // Finds tasks by keyword search
-    private static List<Task> findTasksByKeyword(String keyword) {
+    private static List<Task> findTasksByKeyword(List<Task> candidates, String keyword) {
         List<Task> results = new ArrayList<>();
-        for (Task task : tasks) {
+        for (Task task : candidates) {
             if (task.getDescription().toLowerCase().contains(keyword.toLowerCase())) {
                 results.add(task);
             }
@@ -192,25 +453,25 @@ public class TaskManager {
         for (Task task : tasks) {
             if ((type.equals("todo") && task instanceof Todo) ||
                 (type.equals("deadline") && task instanceof Deadline) ||
-                (type.equals("event") && task instanceof Event)) {
+                (type.equals("event") && task instanceof Event) ||
+                (type.equals("recurring") && task instanceof Recurring)) {
                 results.add(task);
             }
         }
         return results;
     }
 
-    // Prints the list of matching tasks
-    private static void printMatchingTasks(List<Task> tasks, String searchCriteria) throws TaskNotFoundException {
+    // Renders the list of matching tasks, or returns null if there are none
+    private static String formatMatchingTasks(List<Task> tasks) {
         if (tasks.isEmpty()) {
-            throw new TaskNotFoundException("No matching tasks found for: " + searchCriteria);
+            return null;
         }
 
         StringBuilder output = new StringBuilder("Here are the matching tasks in your list:\n");
         for (int i = 0; i < tasks.size(); i++) {
             output.append(i + 1).append(". ").append(tasks.get(i)).append("\n");
         }
-
-        OutputHandler.print(output.toString());
+        return output.toString();
     }
 
     /**
@@ -221,7 +482,8 @@ public class TaskManager {
      * @throws TaskNotFoundException If the task index is invalid
      * @throws InvalidCommandException If the input is improperly formatted
      */
-    public static void renameTask(String arguments) throws InvalidTaskFormatException, TaskNotFoundException, InvalidCommandException {
+    public static synchronized void renameTask(String arguments) throws InvalidTaskFormatException, TaskNotFoundException, InvalidCommandException {
+        TaskReplication.checkWritable();
         try {
             String[] parts = arguments.split(" ", 2);
             if (parts.length < 2) {
@@ -231,8 +493,9 @@ public class TaskManager {
             int index = Integer.parseInt(parts[0]) - 1;
             validateIndex(index);
 
-            tasks.get(index).description = parts[1];
+            tasks.get(index).setDescription(parts[1]);
             TaskStorage.saveTasks();
+            TaskChangeFeed.publish(TaskChange.Type.RENAMED, index, tasks.get(index));
             OutputHandler.printInfo("Task updated successfully.");
         } catch (NumberFormatException e) {
             throw new InvalidCommandException("Invalid task number format. Use numbers only.", e);
@@ -245,35 +508,204 @@ public class TaskManager {
      * @param arguments Task indices or task description to delete
      * @throws InvalidCommandException If the task is not found
      */
-    public static void deleteTasks(String arguments) throws InvalidCommandException {
+    public static synchronized void deleteTasks(String arguments) throws InvalidCommandException {
+        TaskReplication.checkWritable();
+        List<Integer> indices;
         try {
-            List<Integer> indices;
             indices = parseTaskIndices(arguments);
             // Reverse sort ensures we delete from the back to avoid shifting issues
             indices.sort(Collections.reverseOrder());
-            for (int index : indices) {
-                tasks.remove(index);
-            }
         } catch (InvalidCommandException | TaskNotFoundException e) {
             // If parsing fails, assume arguments is a task description
-            Task taskToRemove = null;
-            for (Task task : tasks) {
-                if (task.getDescription().equals(arguments)) {
-                    taskToRemove = task;
+            int indexToRemove = -1;
+            for (int i = 0; i < tasks.size(); i++) {
+                if (tasks.get(i).getDescription().equals(arguments)) {
+                    indexToRemove = i;
                     break; // Only remove one matching task
                 }
             }
-            if (taskToRemove != null) {
-                tasks.remove(taskToRemove);
-            } else {
+            if (indexToRemove < 0) {
                 throw new InvalidCommandException("Task not found: " + arguments);
             }
+            indices = List.of(indexToRemove);
         }
 
-        TaskStorage.saveTasks();
+        removeTasks(indices, TaskChange.Type.DELETED);
         OutputHandler.printInfo("Tasks deleted successfully.");
     }
 
+    // Removes the tasks at the given positions (in descending order), saves, then publishes each removal
+    private static void removeTasks(List<Integer> indices, TaskChange.Type type) {
+        List<Task> removed = new ArrayList<>(indices.size());
+        for (int index : indices) {
+            removed.add(tasks.remove(index));
+        }
+        TaskStorage.saveTasks();
+        for (int i = 0; i < indices.size(); i++) {
+            TaskChangeFeed.publish(type, indices.get(i), removed.get(i));
+        }
+    }
+
+    /**
+     * Imports tasks from a CSV or JSON Lines file and appends them to the list.
+     * <p>
+     * The file is streamed one record at a time, and the list is saved once at the end.
+     * Malformed records are skipped and counted. If the file cannot be read, nothing is imported.
+     * </p>
+     *
+     * @param arguments The format and path, e.g. "csv tasks.csv" or "jsonl tasks.jsonl"
+     * @throws InvalidTaskFormatException If the format is missing or unsupported
+     * @throws InvalidCommandException If the file cannot be read
+     */
+    public static synchronized void importTasks(String arguments)
+            throws InvalidTaskFormatException, InvalidCommandException {
+        TaskReplication.checkWritable();
+        String[] parts = arguments.split(" ", 2);
+        if (parts.length < 2) {
+            throw new InvalidTaskFormatException("Usage: import [csv|jsonl] [file path]");
+        }
+        TaskCodec codec = TaskCodec.forFormat(parts[0]);
+        String path = parts[1].trim();
+
+        int firstIndex = tasks.size();
+        int skipped = 0;
+        String firstError = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(path), StandardCharsets.UTF_8), IO_BUFFER_SIZE)) {
+            while (true) {
+                try {
+                    Task task = codec.read(reader);
+                    if (task == null) {
+                        break;
+                    }
+                    tasks.add(task);
+                } catch (CorruptedTaskEntryException e) {
+                    skipped++;
+                    firstError = firstError == null ? e.getMessage() : firstError;
+                }
+            }
+        } catch (IOException e) {
+            // Roll back so that a failed import leaves the list untouched
+            tasks.subList(firstIndex, tasks.size()).clear();
+            throw new InvalidCommandException("Could not import " + path + ": " + e.getMessage(), e);
+        }
+
+        List<Task> imported = tasks.subList(firstIndex, tasks.size());
+        TaskStorage.saveTasks();
+        TaskChangeFeed.publishAll(TaskChange.Type.ADDED, firstIndex, new ArrayList<>(imported));
+
+        String summary = "Imported " + imported.size() + " task(s) from " + path + ".";
+        if (skipped > 0) {
+            summary += "\nSkipped " + skipped + " malformed record(s). First problem: " + firstError;
+        }
+        OutputHandler.printInfo(summary);
+    }
+
+    /**
+     * Exports all tasks to a CSV or JSON Lines file, streaming one task at a time.
+     *
+     * @param arguments The format and path, e.g. "csv tasks.csv" or "jsonl tasks.jsonl"
+     * @throws InvalidTaskFormatException If the format is missing or unsupported
+     * @throws InvalidCommandException If the file cannot be written
+     */
+    public static synchronized void exportTasks(String arguments)
+            throws InvalidTaskFormatException, InvalidCommandException {
+        TaskReplication.checkReadable();
+        String[] parts = arguments.split(" ", 2);
+        if (parts.length < 2) {
+            throw new InvalidTaskFormatException("Usage: export [csv|jsonl] [file path]");
+        }
+        TaskCodec codec = TaskCodec.forFormat(parts[0]);
+        String path = parts[1].trim();
+
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(path), StandardCharsets.UTF_8), IO_BUFFER_SIZE)) {
+            codec.writeHeader(writer);
+            for (Task task : tasks) {
+                codec.write(task, writer);
+            }
+        } catch (IOException e) {
+            throw new InvalidCommandException("Could not export to " + path + ": " + e.getMessage(), e);
+        }
+        OutputHandler.printInfo("Exported " + tasks.size() + " task(s) to " + path + ".");
+    }
+
+    /**
+     * Moves completed tasks that have been done for longer than {@link TaskArchive#ARCHIVE_AFTER_DAYS}
+     * out of the working list and into the archive, then saves the smaller list once.
+     * <p>
+     * Only called from the static initializer, so it is deliberately not synchronized: taking the
+     * class lock there would deadlock against a thread that already holds it while waiting for
+     * this class to finish initializing.
+     * </p>
+     */
+    private static void archiveCompletedTasks() {
+        long now = System.currentTimeMillis();
+        List<Integer> indices = new ArrayList<>();
+        List<Task> archivable = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            if (TaskArchive.isArchivable(tasks.get(i), now)) {
+                indices.add(i);
+                archivable.add(tasks.get(i));
+            }
+        }
+        if (archivable.isEmpty()) {
+            return;
+        }
+
+        try {
+            TaskArchive.append(archivable);
+        } catch (IOException e) {
+            OutputHandler.printError("Error archiving tasks, keeping them in your list: " + e.getMessage());
+            return;
+        }
+
+        // Remove from the back so that earlier indices stay valid
+        Collections.reverse(indices);
+        removeTasks(indices, TaskChange.Type.ARCHIVED);
+        OutputHandler.printInfo("Archived " + archivable.size() + " task(s) completed over "
+                + TaskArchive.ARCHIVE_AFTER_DAYS + " day(s) ago. Use 'list /archived' to view them.");
+    }
+
+    /**
+     * Replaces the whole task list with a snapshot received from the replication primary.
+     *
+     * @param snapshot The primary's task list.
+     * @param sequence The change sequence number the snapshot corresponds to.
+     */
+    static synchronized void replaceReplicatedTasks(List<Task> snapshot, long sequence) {
+        tasks.clear();
+        tasks.addAll(snapshot);
+        TaskViews.rebuild(tasks);
+        ReminderScheduler.rebuild(tasks);
+        FindCache.invalidate();
+        TaskChangeFeed.resetSequence(sequence);
+    }
+
+    /**
+     * Applies a change received from the replication primary to the local task list.
+     * Updates are applied to the existing task object, so that listeners tracking tasks
+     * by identity see the same task they were given when it was added.
+     *
+     * @param change The change, as published by the primary.
+     */
+    static synchronized void applyReplicatedChange(TaskChange change) {
+        int index = change.getIndex();
+        Task task = switch (change.getType()) {
+        case ADDED -> {
+            tasks.add(index, change.getTask());
+            yield change.getTask();
+        }
+        case RENAMED, FLAG_CHANGED -> {
+            tasks.get(index).copyStateFrom(change.getTask());
+            yield tasks.get(index);
+        }
+        case DELETED, ARCHIVED -> tasks.remove(index);
+        };
+        TaskChangeFeed.replay(new TaskChange(change.getSequence(), change.getType(), index, task,
+                change.getEncodedTask()));
+    }
+
     /**
      * Parses space-separated task indices from the provided string and validates them.
      * <p>
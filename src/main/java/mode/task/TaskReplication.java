@@ -0,0 +1,82 @@
+package mode.task;
+
+import exception.ReplicationException;
+
+/**
+ * Configures local primary/replica replication of the task list between Eggo processes.
+ * <p>
+ * The role is chosen with the {@code eggo.replication.role} system property:
+ * </p>
+ * <ul>
+ * <li>{@code primary} - this process owns {@code data/task_list.txt} and ships every
+ * {@link TaskChange} to connected replicas over a loopback socket.</li>
+ * <li>{@code replica} - this process keeps an in-memory copy of the primary's list and serves
+ * {@code list} and {@code find} from it. Mutating commands are rejected.</li>
+ * </ul>
+ * <p>
+ * Other properties: {@code eggo.replication.port} (default 7341),
+ * {@code eggo.replication.heartbeatMs} (primary, default 1000) and
+ * {@code eggo.replication.maxStalenessMs} (replica, default 3000). A replica refuses reads
+ * when it has not heard from the primary within the staleness bound.
+ * </p>
+ */
+public class TaskReplication {
+
+    public static final String ROLE = System.getProperty("eggo.replication.role", "none").toLowerCase();
+    public static final int PORT = Integer.getInteger("eggo.replication.port", 7341);
+    public static final long HEARTBEAT_MS = Long.getLong("eggo.replication.heartbeatMs", 1000);
+    public static final long MAX_STALENESS_MS = Long.getLong("eggo.replication.maxStalenessMs", 3000);
+
+    private static ReplicationReplica replica;
+
+    public static boolean isPrimary() {
+        return ROLE.equals("primary");
+    }
+
+    public static boolean isReplica() {
+        return ROLE.equals("replica");
+    }
+
+    /**
+     * Starts the configured replication role, if any.
+     * A replica waits up to the staleness bound for its first snapshot before returning.
+     */
+    public static void startIfConfigured() {
+        if (isPrimary()) {
+            new ReplicationPrimary(PORT, HEARTBEAT_MS).start();
+        } else if (isReplica()) {
+            replica = new ReplicationReplica(PORT);
+            replica.start();
+            replica.awaitFirstSnapshot(MAX_STALENESS_MS);
+        }
+    }
+
+    /**
+     * Ensures the task list may be modified by this process.
+     *
+     * @throws ReplicationException If this process is a replica.
+     */
+    static void checkWritable() throws ReplicationException {
+        if (isReplica()) {
+            throw new ReplicationException("This Eggo is a read-only replica. Make changes on the primary.");
+        }
+    }
+
+    /**
+     * Ensures the task list is fresh enough to be read.
+     *
+     * @throws ReplicationException If this process is a replica that is out of date.
+     */
+    static void checkReadable() throws ReplicationException {
+        if (!isReplica()) {
+            return;
+        }
+
+        long staleness = replica.getStalenessMillis();
+        if (staleness > MAX_STALENESS_MS) {
+            throw new ReplicationException(staleness == Long.MAX_VALUE
+                    ? "Replica has not synchronised with the primary yet."
+                    : "Replica is stale: last heard from the primary " + staleness + " ms ago.");
+        }
+    }
+}
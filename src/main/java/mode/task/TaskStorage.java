@@ -1,5 +1,8 @@
 package mode.task;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
 
 import java.io.BufferedReader;
@@ -8,6 +11,7 @@ import java.io.File;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import eggo.OutputHandler;
 
@@ -23,9 +27,15 @@ import exception.DirectoryCreationException;
  */
 public class TaskStorage {
 
-    private static final String FILE_PATH = "data/task_list.txt";
+    /**
+     * Directory holding all task data files, set with the {@code eggo.data.dir} system property.
+     */
+    public static final String DATA_DIR = System.getProperty("eggo.data.dir", "data");
 
-    private static final List<Task> tasks = TaskManager.getTasks();
+    private static final String FILE_PATH = DATA_DIR + "/task_list.txt";
+
+    // First line of files whose free-text fields are escaped; older files have no header
+    private static final String FORMAT_HEADER = "# eggo task list v2";
 
     /**
      * Saves the current task list to a file.
@@ -33,6 +43,7 @@ public class TaskStorage {
      * The tasks are stored in a structured format where each task type (Todo, Deadline, Event)
      * is represented by a specific identifier, followed by task properties such as completion
      * status, urgency, importance, and additional task-specific details.
+     * The file starts with a format header, marking its free-text fields as escaped.
      * </p>
      * <p>
      * If the storage directory does not exist, it will attempt to create it.
@@ -40,9 +51,9 @@ public class TaskStorage {
      * </p>
      */
     public static void saveTasks() {
-        File directory = new File("data");
+        File directory = new File(DATA_DIR);
         try {
-            if (!directory.exists() && !directory.mkdir()) {
+            if (!directory.exists() && !directory.mkdirs()) {
                 throw new DirectoryCreationException("Failed to create directory: " + directory.getAbsolutePath());
             }
         } catch (DirectoryCreationException e) {
@@ -50,33 +61,11 @@ public class TaskStorage {
             return;
         }
 
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(FILE_PATH))) {
-            for (Task task : tasks) {
-                StringBuilder line = new StringBuilder();
-
-                // Task type
-                if (task instanceof Todo) {
-                    line.append("T|");
-                } else if (task instanceof Deadline) {
-                    line.append("D|");
-                } else if (task instanceof Event) {
-                    line.append("E|");
-                }
-
-                // Task properties
-                line.append(task.isCompleted ? "1|" : "0|")
-                        .append(task.isUrgent ? "1|" : "0|")
-                        .append(task.isImportant ? "1|" : "0|")
-                        .append(task.description).append("|");
-
-                // Additional fields for Deadlines and Events
-                if (task instanceof Deadline deadline) {
-                    line.append(deadline.by);
-                } else if (task instanceof Event event) {
-                    line.append(event.from).append("|").append(event.to);
-                }
-
-                writer.write(line.toString());
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(FILE_PATH, StandardCharsets.UTF_8))) {
+            writer.write(FORMAT_HEADER);
+            writer.newLine();
+            for (Task task : TaskManager.getTasks()) {
+                writer.write(encode(task));
                 writer.newLine();
             }
         } catch (IOException e) {
@@ -84,6 +73,47 @@ public class TaskStorage {
         }
     }
 
+    /**
+     * Encodes a single task into its line representation in the storage file.
+     *
+     * @param task The task to encode.
+     * @return The encoded line, without a trailing line separator.
+     */
+    static String encode(Task task) {
+        StringBuilder line = new StringBuilder();
+
+        // Task type
+        if (task instanceof Todo) {
+            line.append("T|");
+        } else if (task instanceof Deadline) {
+            line.append("D|");
+        } else if (task instanceof Event) {
+            line.append("E|");
+        } else if (task instanceof Recurring) {
+            line.append("R|");
+        }
+
+        // Task properties, with the time a completed task was done
+        line.append(task.isCompleted ? "1@" + task.completedAt + "|" : "0|")
+                .append(task.isUrgent ? "1|" : "0|")
+                .append(task.isImportant ? "1|" : "0|")
+                .append(escape(task.getDescription())).append("|");
+
+        // Additional fields for Deadlines, Events and Recurring tasks
+        if (task instanceof Deadline deadline) {
+            line.append(escape(deadline.by));
+        } else if (task instanceof Event event) {
+            line.append(escape(event.from)).append("|").append(escape(event.to));
+        } else if (task instanceof Recurring recurring) {
+            line.append(recurring.stepDays).append("|")
+                    .append(recurring.start).append("|")
+                    .append(recurring.until != null ? recurring.until : "").append("|")
+                    .append(recurring.encodeCompletedOccurrences());
+        }
+
+        return line.toString();
+    }
+
     /**
      * Loads tasks from the stored file into the application's task list.
      * <p>
@@ -91,6 +121,10 @@ public class TaskStorage {
      * If the file does not exist, no tasks are loaded. The method also performs basic validation
      * to detect and skip corrupted or malformed entries, logging appropriate error messages.
      * </p>
+     * <p>
+     * Files without the format header were written before fields were escaped, so their
+     * backslashes are taken literally until the file is next saved.
+     * </p>
      */
     public static void loadTasks() {
         File file = new File(FILE_PATH);
@@ -98,44 +132,153 @@ public class TaskStorage {
             return; // No file, no tasks to load
         }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
+        List<Task> tasks = TaskManager.getTasks();
+        boolean hasUntimedCompletions = false;
+        try (BufferedReader reader = new BufferedReader(new FileReader(file, StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            boolean isEscaped = FORMAT_HEADER.equals(line);
+            if (isEscaped) {
+                line = reader.readLine();
+            }
+            for (; line != null; line = reader.readLine()) {
                 try {
-                    String[] parts = line.split("\\|"); // To correctly escape the pipe
-
-                    if (parts.length < 5) {
-                        throw new CorruptedTaskEntryException("Skipping corrupted task entry: " + line);
-                    }
-
-                    String type = parts[0];
-                    boolean isCompleted = parts[1].equals("1");
-                    boolean isUrgent = parts[2].equals("1");
-                    boolean isImportant = parts[3].equals("1");
-                    String description = parts[4];
-
-                    switch (type) {
-                    case "T" -> tasks.add(new Todo(description, isCompleted, isUrgent, isImportant));
-                    case "D" -> {
-                        if (parts.length < 6) {
-                            throw new CorruptedTaskEntryException("Malformed deadline entry: " + line);
-                        }
-                        tasks.add(new Deadline(description, isCompleted, isUrgent, isImportant, parts[5]));
-                    }
-                    case "E" -> {
-                        if (parts.length < 7) {
-                            throw new CorruptedTaskEntryException("Malformed event entry: " + line);
-                        }
-                        tasks.add(new Event(description, isCompleted, isUrgent, isImportant, parts[5], parts[6]));
-                    }
-                    default -> throw new CorruptedTaskEntryException("Unknown task type: " + type);
-                    }
+                    Task task = decode(line, isEscaped);
+                    tasks.add(task);
+                    // Older files store a done task as "1" without a completion time
+                    hasUntimedCompletions |= task.isCompleted && !line.startsWith("1@", line.indexOf('|') + 1);
                 } catch (CorruptedTaskEntryException e) {
                     OutputHandler.printError(e.getMessage());
                 }
             }
         } catch (IOException e) {
             OutputHandler.printError("Error loading tasks: " + e.getMessage());
+            return;
+        }
+
+        // Persist the completion times assigned on load, so they are not reset on every start
+        if (hasUntimedCompletions) {
+            saveTasks();
+        }
+    }
+
+    /**
+     * Reconstructs a task from its line representation in the storage file.
+     *
+     * @param line The encoded task line.
+     * @return The decoded task.
+     * @throws CorruptedTaskEntryException If the line is malformed.
+     */
+    static Task decode(String line) throws CorruptedTaskEntryException {
+        return decode(line, true);
+    }
+
+    // Decodes a line, unescaping its fields only if it was written in the escaped format
+    private static Task decode(String line, boolean isEscaped) throws CorruptedTaskEntryException {
+        String[] parts = isEscaped ? split(line) : line.split("\\|");
+
+        if (parts.length < 5) {
+            throw new CorruptedTaskEntryException("Skipping corrupted task entry: " + line);
+        }
+
+        String type = parts[0];
+        boolean isCompleted = parts[1].startsWith("1");
+        boolean isUrgent = parts[2].equals("1");
+        boolean isImportant = parts[3].equals("1");
+        String description = parts[4];
+
+        Task task = switch (type) {
+        case "T" -> new Todo(description, isCompleted, isUrgent, isImportant);
+        case "D" -> {
+            if (parts.length < 6) {
+                throw new CorruptedTaskEntryException("Malformed deadline entry: " + line);
+            }
+            yield new Deadline(description, isCompleted, isUrgent, isImportant, parts[5]);
+        }
+        case "E" -> {
+            if (parts.length < 7) {
+                throw new CorruptedTaskEntryException("Malformed event entry: " + line);
+            }
+            yield new Event(description, isCompleted, isUrgent, isImportant, parts[5], parts[6]);
+        }
+        case "R" -> {
+            if (parts.length < 7) {
+                throw new CorruptedTaskEntryException("Malformed recurring entry: " + line);
+            }
+            try {
+                if (Integer.parseInt(parts[5]) <= 0) {
+                    throw new CorruptedTaskEntryException("Malformed recurring entry: " + line);
+                }
+                // Entries may omit the trailing empty fields (no end date, no completed occurrences)
+                yield new Recurring(description, isCompleted, isUrgent, isImportant, Integer.parseInt(parts[5]),
+                        LocalDate.parse(parts[6]),
+                        parts.length > 7 && !parts[7].isEmpty() ? LocalDate.parse(parts[7]) : null,
+                        Recurring.decodeCompletedOccurrences(parts.length > 8 ? parts[8] : ""));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new CorruptedTaskEntryException("Malformed recurring entry: " + line);
+            }
+        }
+        default -> throw new CorruptedTaskEntryException("Unknown task type: " + type);
+        };
+
+        // Entries written before completion times were recorded keep the load time set by the constructor
+        if (isCompleted && parts[1].startsWith("1@")) {
+            try {
+                task.completedAt = Long.parseLong(parts[1].substring(2));
+            } catch (NumberFormatException e) {
+                throw new CorruptedTaskEntryException("Malformed completion time: " + line);
+            }
+        }
+        return task;
+    }
+
+    /**
+     * Escapes a free-text field so that it cannot break the line format:
+     * backslashes, pipes and line breaks are prefixed with a backslash.
+     */
+    private static String escape(String field) {
+        if (field.indexOf('\\') < 0 && field.indexOf('|') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+            return field;
+        }
+
+        StringBuilder escaped = new StringBuilder(field.length() + 8);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            switch (c) {
+            case '\\', '|' -> escaped.append('\\').append(c);
+            case '\n' -> escaped.append("\\n");
+            case '\r' -> escaped.append("\\r");
+            default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Splits an encoded line on unescaped pipes and unescapes each field.
+     * A backslash before any other character is kept as is.
+     */
+    private static String[] split(String line) {
+        List<String> fields = new ArrayList<>(8);
+        StringBuilder field = new StringBuilder(line.length());
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '|') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\\' && i + 1 < line.length()) {
+                char next = line.charAt(++i);
+                switch (next) {
+                case '\\', '|' -> field.append(next);
+                case 'n' -> field.append('\n');
+                case 'r' -> field.append('\r');
+                default -> field.append(c).append(next);
+                }
+            } else {
+                field.append(c);
+            }
         }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
     }
 }
@@ -0,0 +1,126 @@
+package mode.task;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Maintains ordered views over the pending (not completed) tasks, updated incrementally
+ * from {@link TaskChangeFeed} instead of being recomputed from the task list on every query.
+ * <ul>
+ * <li>The Eisenhower matrix: pending tasks grouped by urgency and importance,
+ * each quadrant in list order.</li>
+ * <li>The due-soon view: pending deadlines with a recognised date, earliest first.</li>
+ * </ul>
+ * Each change costs O(log n), and reading the first k due deadlines costs O(k + log n).
+ */
+public class TaskViews {
+
+    /**
+     * Quadrant titles, in the order used by {@link #getQuadrant(int)}.
+     */
+    public static final String[] QUADRANT_TITLES = {
+        "Urgent & important (do first)",
+        "Important, not urgent (schedule)",
+        "Urgent, not important (delegate)",
+        "Neither urgent nor important (eliminate)"
+    };
+
+    private static final List<Set<Task>> quadrants = new ArrayList<>();
+    private static final TreeSet<Deadline> dueSoon = new TreeSet<>(
+            Comparator.comparing(Deadline::getDue).thenComparingLong(deadline -> deadline.serial));
+
+    static {
+        for (int i = 0; i < QUADRANT_TITLES.length; i++) {
+            // Ordered by serial, so re-indexing a task after a flag change keeps its position
+            quadrants.add(new TreeSet<>(Comparator.comparingLong(task -> task.serial)));
+        }
+    }
+
+    /**
+     * Rebuilds all views from scratch, e.g. after the task list has been loaded.
+     *
+     * @param tasks The full task list.
+     */
+    static synchronized void rebuild(List<Task> tasks) {
+        for (Set<Task> quadrant : quadrants) {
+            quadrant.clear();
+        }
+        dueSoon.clear();
+        for (Task task : tasks) {
+            index(task);
+        }
+    }
+
+    /**
+     * Updates the views for a single change. Registered as a {@link TaskChangeListener}.
+     */
+    static synchronized void onChange(TaskChange change) {
+        Task task = change.getTask();
+        switch (change.getType()) {
+        case ADDED -> index(task);
+        case DELETED, ARCHIVED -> unindex(task);
+        case FLAG_CHANGED -> {
+            unindex(task);
+            index(task);
+        }
+        default -> {
+            // Renaming does not affect ordering
+        }
+        }
+    }
+
+    /**
+     * Returns the pending tasks in the given quadrant, in list order.
+     *
+     * @param quadrant An index into {@link #QUADRANT_TITLES}.
+     */
+    public static synchronized List<Task> getQuadrant(int quadrant) {
+        return new ArrayList<>(quadrants.get(quadrant));
+    }
+
+    /**
+     * Returns up to {@code count} pending deadlines, earliest first.
+     *
+     * @param count The maximum number of deadlines to return.
+     */
+    public static synchronized List<Deadline> getNextDue(int count) {
+        List<Deadline> result = new ArrayList<>(Math.min(count, dueSoon.size()));
+        Iterator<Deadline> iterator = dueSoon.iterator();
+        while (result.size() < count && iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    // Maps urgency and importance to a quadrant, in the order of QUADRANT_TITLES
+    private static int quadrantOf(Task task) {
+        if (task.isImportant) {
+            return task.isUrgent ? 0 : 1;
+        }
+        return task.isUrgent ? 2 : 3;
+    }
+
+    private static void index(Task task) {
+        if (task.isCompleted) {
+            return;
+        }
+        quadrants.get(quadrantOf(task)).add(task);
+        if (task instanceof Deadline deadline && deadline.getDue() != null) {
+            dueSoon.add(deadline);
+        }
+    }
+
+    // Removes the task from whichever views hold it, regardless of its current flags
+    private static void unindex(Task task) {
+        for (Set<Task> quadrant : quadrants) {
+            quadrant.remove(task);
+        }
+        if (task instanceof Deadline deadline && deadline.getDue() != null) {
+            dueSoon.remove(deadline);
+        }
+    }
+}
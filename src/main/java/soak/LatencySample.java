@@ -0,0 +1,53 @@
+package soak;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Keeps a fixed-size uniform random sample of latencies (reservoir sampling),
+ * so percentiles can be estimated over arbitrarily long runs in constant memory.
+ */
+public class LatencySample {
+
+    private final long[] reservoir;
+    private final Random random = new Random(0);
+    private long count;
+
+    public LatencySample(int capacity) {
+        this.reservoir = new long[capacity];
+    }
+
+    public void record(long nanos) {
+        if (count < reservoir.length) {
+            reservoir[(int) count] = nanos;
+        } else {
+            long slot = (long) (random.nextDouble() * (count + 1));
+            if (slot < reservoir.length) {
+                reservoir[(int) slot] = nanos;
+            }
+        }
+        count++;
+    }
+
+    public void reset() {
+        count = 0;
+    }
+
+    /**
+     * Formats the 50th, 95th and 99th percentiles and the maximum of the sample, in microseconds.
+     */
+    public String summary() {
+        long[] sorted = Arrays.copyOf(reservoir, (int) Math.min(count, reservoir.length));
+        Arrays.sort(sorted);
+        return "p50=" + micros(sorted, 0.50) + " p95=" + micros(sorted, 0.95)
+                + " p99=" + micros(sorted, 0.99) + " max=" + micros(sorted, 1.0);
+    }
+
+    private static String micros(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return "-";
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return (sorted[Math.max(index, 0)] / 1000) + "us";
+    }
+}
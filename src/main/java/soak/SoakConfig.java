@@ -0,0 +1,108 @@
+package soak;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings for a soak run, parsed from {@code key=value} command-line arguments.
+ * <ul>
+ * <li>{@code ops} - number of measured commands (default 100000)</li>
+ * <li>{@code seconds} - stop earlier after this many seconds (default 0, no limit)</li>
+ * <li>{@code seed} - random seed, so a run can be reproduced exactly (default 42)</li>
+ * <li>{@code mix} - command weights (default add:30,mark:25,find:20,delete:15,list:10)</li>
+ * <li>{@code prefill} - tasks added before measuring starts (default 1000)</li>
+ * <li>{@code maxSize} - largest list size the generator will grow to (default 5000)</li>
+ * <li>{@code desc} - description length range in characters (default 5-40)</li>
+ * <li>{@code repeat} - fraction of descriptions drawn from a few repeated phrases (default 0.5)</li>
+ * <li>{@code report} - commands between progress reports (default 10000)</li>
+ * </ul>
+ */
+public class SoakConfig {
+
+    long ops = 100_000;
+    long seconds = 0;
+    long seed = 42;
+    int prefill = 1000;
+    int maxSize = 5000;
+    int minDescription = 5;
+    int maxDescription = 40;
+    double repeatRatio = 0.5;
+    long reportInterval = 10_000;
+
+    private final Map<String, Integer> mix = new LinkedHashMap<>();
+    private int totalWeight;
+
+    /**
+     * Parses the command-line arguments.
+     *
+     * @param args Arguments in the form {@code key=value}.
+     * @return The parsed configuration.
+     * @throws IllegalArgumentException If an argument is unknown or malformed.
+     */
+    public static SoakConfig parse(String[] args) {
+        SoakConfig config = new SoakConfig();
+        String mix = "add:30,mark:25,find:20,delete:15,list:10";
+
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            if (parts.length < 2) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            String value = parts[1];
+            switch (parts[0]) {
+            case "ops" -> config.ops = Long.parseLong(value);
+            case "seconds" -> config.seconds = Long.parseLong(value);
+            case "seed" -> config.seed = Long.parseLong(value);
+            case "mix" -> mix = value;
+            case "prefill" -> config.prefill = Integer.parseInt(value);
+            case "maxSize" -> config.maxSize = Integer.parseInt(value);
+            case "desc" -> {
+                String[] range = value.split("-", 2);
+                config.minDescription = Integer.parseInt(range[0]);
+                config.maxDescription = Integer.parseInt(range.length > 1 ? range[1] : range[0]);
+            }
+            case "repeat" -> config.repeatRatio = Double.parseDouble(value);
+            case "report" -> config.reportInterval = Long.parseLong(value);
+            default -> throw new IllegalArgumentException("Unknown setting: " + parts[0]);
+            }
+        }
+
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":", 2);
+            if (parts.length < 2) {
+                throw new IllegalArgumentException("Expected command:weight but got mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1]);
+            if (!parts[0].matches("add|mark|find|delete|list") || weight < 0) {
+                throw new IllegalArgumentException("Invalid mix entry: " + entry);
+            }
+            config.mix.put(parts[0], weight);
+            config.totalWeight += weight;
+        }
+        if (config.totalWeight <= 0 || config.minDescription < 1 || config.maxDescription < config.minDescription) {
+            throw new IllegalArgumentException("The mix needs a positive weight and desc a valid range.");
+        }
+        return config;
+    }
+
+    int totalWeight() {
+        return totalWeight;
+    }
+
+    // Maps a number in [0, totalWeight) to a command according to the mix
+    String pickCommand(int roll) {
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Roll out of range");
+    }
+
+    @Override
+    public String toString() {
+        return "ops=" + ops + " seconds=" + seconds + " seed=" + seed + " mix=" + mix + " prefill=" + prefill
+                + " maxSize=" + maxSize + " desc=" + minDescription + "-" + maxDescription + " repeat=" + repeatRatio;
+    }
+}
@@ -0,0 +1,125 @@
+package soak;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+
+import mode.TaskMode;
+import mode.task.TaskManager;
+
+/**
+ * Drives {@link TaskMode} in-process with a synthetic workload and reports throughput,
+ * latency percentiles and heap growth, to expose leaks and scaling cliffs in long runs.
+ * <p>
+ * The harness uses a fresh temporary data directory, so it never touches the user's tasks,
+ * and discards Task Mode's own output. Latencies are kept in fixed-size {@link LatencySample}s,
+ * so the harness itself uses constant memory however long it runs.
+ * </p>
+ *
+ * Usage:
+ * {@code java -cp bin soak.SoakHarness ops=500000 mix=add:40,find:40,delete:20 maxSize=20000}
+ * (see {@link SoakConfig} for all settings).
+ */
+public class SoakHarness {
+
+    private static final int RESERVOIR_SIZE = 100_000;
+
+    private final SoakConfig config;
+    private final PrintStream report;
+    private final LatencySample intervalLatencies = new LatencySample(RESERVOIR_SIZE);
+    private final LatencySample totalLatencies = new LatencySample(RESERVOIR_SIZE);
+
+    public SoakHarness(SoakConfig config, PrintStream report) {
+        this.config = config;
+        this.report = report;
+    }
+
+    public static void main(String[] args) throws IOException {
+        SoakConfig config;
+        try {
+            config = SoakConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("[soak] " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        File dataDir = Files.createTempDirectory("eggo-soak").toFile();
+        System.setProperty("eggo.data.dir", dataDir.getPath()); // Must be set before the task classes load
+
+        PrintStream report = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            new SoakHarness(config, report).run();
+        } finally {
+            System.setOut(report);
+            deleteRecursively(dataDir);
+        }
+    }
+
+    /**
+     * Prefills the task list, then runs the measured workload and prints periodic reports.
+     */
+    public void run() {
+        WorkloadGenerator generator = new WorkloadGenerator(config);
+        TaskMode taskMode = new TaskMode();
+
+        report.println("[soak] " + config);
+        for (int i = 0; i < config.prefill; i++) {
+            taskMode.handle(generator.nextAdd());
+        }
+
+        long startHeap = usedHeapAfterGc();
+        long start = System.nanoTime();
+        long intervalStart = start;
+        long deadline = config.seconds > 0 ? start + config.seconds * 1_000_000_000L : Long.MAX_VALUE;
+        long ops = 0;
+
+        while (ops < config.ops && System.nanoTime() < deadline) {
+            String command = generator.next(TaskManager.getTasks().size());
+            long before = System.nanoTime();
+            taskMode.handle(command);
+            long latency = System.nanoTime() - before;
+            intervalLatencies.record(latency);
+            totalLatencies.record(latency);
+            ops++;
+
+            if (ops % config.reportInterval == 0) {
+                long now = System.nanoTime();
+                printReport("progress", ops, config.reportInterval, now - intervalStart, intervalLatencies, startHeap);
+                intervalStart = now;
+                intervalLatencies.reset();
+            }
+        }
+
+        printReport("total", ops, ops, System.nanoTime() - start, totalLatencies, startHeap);
+    }
+
+    private void printReport(String label, long ops, long intervalOps, long intervalNanos,
+            LatencySample latencies, long startHeap) {
+        long heap = usedHeapAfterGc();
+        report.printf("[soak] %-8s ops=%d tasks=%d throughput=%.0f ops/s %s heap=%d MiB (%+d MiB since start)%n",
+                label, ops, TaskManager.getTasks().size(), intervalOps / (intervalNanos / 1e9),
+                latencies.summary(), heap >> 20, (heap - startHeap) >> 20);
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package soak;
+
+import java.util.Random;
+
+/**
+ * Generates a reproducible stream of Task Mode commands from a {@link SoakConfig}.
+ * <p>
+ * Commands are drawn according to the configured mix. Indices always refer to existing tasks,
+ * the list is kept at or below the configured maximum size (an add on a full list becomes a
+ * delete), and descriptions are drawn either from a small vocabulary of repeated phrases or
+ * as random words with a length in the configured range.
+ * </p>
+ */
+public class WorkloadGenerator {
+
+    private static final String[] PHRASES = {
+        "standup", "code review", "weekly report", "gym", "groceries", "1:1 with manager",
+        "plan sprint", "reply to emails", "CS2113 tutorial", "pay bills"
+    };
+    private static final String[] WORDS = {
+        "alpha", "beta", "gamma", "delta", "task", "note", "meeting", "draft", "fix", "read", "write", "call"
+    };
+    private static final String[] TYPES = {"todo", "deadline", "event"};
+
+    private final SoakConfig config;
+    private final Random random;
+
+    public WorkloadGenerator(SoakConfig config) {
+        this.config = config;
+        this.random = new Random(config.seed);
+    }
+
+    /**
+     * Returns the next command to run.
+     *
+     * @param listSize The current number of tasks.
+     */
+    public String next(int listSize) {
+        String command = config.pickCommand(random.nextInt(config.totalWeight()));
+        if (listSize == 0) {
+            command = "add";
+        } else if (command.equals("add") && listSize >= config.maxSize) {
+            command = "delete";
+        }
+
+        return switch (command) {
+        case "add" -> nextAdd();
+        case "mark" -> (random.nextBoolean() ? "mark " : "unmark ") + randomIndex(listSize);
+        case "find" -> random.nextInt(4) == 0
+                ? "find /type " + TYPES[random.nextInt(TYPES.length)]
+                : "find " + PHRASES[random.nextInt(PHRASES.length)].split(" ")[0];
+        case "delete" -> "delete " + randomIndex(listSize);
+        case "list" -> "list";
+        default -> throw new IllegalStateException("Unknown command in mix: " + command);
+        };
+    }
+
+    /**
+     * Returns a command that adds a task, used to prefill the list.
+     */
+    public String nextAdd() {
+        String description = nextDescription();
+        return switch (random.nextInt(3)) {
+        case 0 -> "todo " + description;
+        case 1 -> "deadline " + description + " /by 2025-" + twoDigits(1 + random.nextInt(12))
+                + "-" + twoDigits(1 + random.nextInt(28)) + " 0900";
+        default -> "event " + description + " /from 2025-01-01 0900 /to 2025-01-01 1000";
+        };
+    }
+
+    private String nextDescription() {
+        if (random.nextDouble() < config.repeatRatio) {
+            return PHRASES[random.nextInt(PHRASES.length)];
+        }
+
+        int length = config.minDescription + random.nextInt(config.maxDescription - config.minDescription + 1);
+        StringBuilder description = new StringBuilder(length + 8);
+        while (description.length() < length) {
+            if (description.length() > 0) {
+                description.append(' ');
+            }
+            description.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        description.setLength(length);
+        return description.toString().trim();
+    }
+
+    private int randomIndex(int listSize) {
+        return 1 + random.nextInt(listSize);
+    }
+
+    private static String twoDigits(int value) {
+        return value < 10 ? "0" + value : String.valueOf(value);
+    }
+}
@@ -0,0 +1,52 @@
+#!/usr/bin/env bash
+
+# Starts a replication primary and a replica as separate JVMs on loopback,
+# adds a task on the primary and checks that the replica can list and find it.
+
+PORT=${PORT:-7341}
+
+# create bin directory if it doesn't exist
+if [ ! -d "../bin" ]; then
+    mkdir ../bin
+fi
+
+# start from an empty task list
+if [ -e "./data" ]; then
+    rm -rf ./data
+fi
+rm -f PRIMARY.TXT REPLICA.TXT primary.in
+
+# Compile the code, terminate on error
+if ! javac -cp ../src/main/java -Xlint:none -d ../bin $(find ../src/main/java -name "*.java"); then
+    echo "********** BUILD FAILURE **********"
+    exit 1
+fi
+
+# the primary reads its commands from a pipe so that it stays alive while the replica runs
+mkfifo primary.in
+java -Deggo.replication.role=primary -Deggo.replication.port=$PORT -Deggo.replication.heartbeatMs=200 \
+    -classpath ../bin eggo.Eggo < primary.in > PRIMARY.TXT &
+PRIMARY_PID=$!
+exec 3> primary.in
+
+printf 'task\ntodo replicated task\n' >&3
+sleep 1
+
+# the replica must see the primary's task, and must refuse writes
+printf 'task\nlist\nfind replicated\ntodo should fail\nexit\nbye\n' | \
+    java -Deggo.replication.role=replica -Deggo.replication.port=$PORT \
+    -classpath ../bin eggo.Eggo > REPLICA.TXT
+
+printf 'exit\nbye\n' >&3
+exec 3>&-
+wait $PRIMARY_PID
+rm -f primary.in
+
+if [ "$(grep -c 'replicated task' REPLICA.TXT)" -ge 2 ] && grep -q 'read-only replica' REPLICA.TXT; then
+    echo "Test result: PASSED"
+    exit 0
+else
+    echo "Test result: FAILED"
+    cat REPLICA.TXT
+    exit 1
+fi
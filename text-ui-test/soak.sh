@@ -0,0 +1,18 @@
+#!/usr/bin/env bash
+
+# Runs the synthetic soak workload against Task Mode and prints throughput,
+# latency percentiles and heap growth. All arguments are passed to the harness,
+# e.g. ./soak.sh ops=200000 mix=add:40,find:40,delete:20 maxSize=10000 desc=10-80
+
+# create bin directory if it doesn't exist
+if [ ! -d "../bin" ]; then
+    mkdir ../bin
+fi
+
+# Compile the code, terminate on error
+if ! javac -cp ../src/main/java -Xlint:none -d ../bin $(find ../src/main/java -name "*.java"); then
+    echo "********** BUILD FAILURE **********"
+    exit 1
+fi
+
+java ${JAVA_OPTS} -classpath ../bin soak.SoakHarness "$@"
@@ -0,0 +1,80 @@
+#!/usr/bin/env bash
+
+# Packages Eggo as a jar, creates a class-data-sharing (AppCDS) archive for it,
+# and measures time-to-first-prompt with and without the archive.
+#
+# Usage: ./startup-bench.sh [runs]
+# The archive is mapped with -Xshare:on, so an unusable archive fails the run instead of
+# silently falling back. Runs alternate between the two configurations, and the benchmark
+# passes if the median archived startup takes at most MAX_STARTUP_PERCENT percent (default 100)
+# of the median default startup, i.e. the archive must not make startup slower. JVM start-up
+# itself dominates for a program this small, so run-to-run noise exceeds the archive's gain and
+# a stricter default would fail at random.
+
+RUNS=${1:-15}
+MAX_STARTUP_PERCENT=${MAX_STARTUP_PERCENT:-100}
+JAR=../bin/eggo.jar
+ARCHIVE=../bin/eggo.jsa
+
+# create bin directory if it doesn't exist
+if [ ! -d "../bin/classes" ]; then
+    mkdir -p ../bin/classes
+fi
+
+# Compile the code, terminate on error
+if ! javac -cp ../src/main/java -Xlint:none -d ../bin/classes $(find ../src/main/java -name "*.java"); then
+    echo "********** BUILD FAILURE **********"
+    exit 1
+fi
+jar --create --file $JAR --main-class eggo.Eggo -C ../bin/classes .
+
+# Training run: visit every mode so that their classes are included in the archive
+WORK_DIR=$(mktemp -d)
+printf 'echo\nhi\nexit\ntask\nlist\nexit\nbye\n' | \
+    (cd "$WORK_DIR" && java -XX:ArchiveClassesAtExit="$OLDPWD/$ARCHIVE" -jar "$OLDPWD/$JAR" > /dev/null)
+rm -rf "$WORK_DIR"
+
+# Prints the wall time in milliseconds for starting Eggo and leaving at the first prompt
+measure_once() {
+    local start=$(date +%s%N)
+    if ! printf 'bye\n' | java "$@" -jar $JAR > /dev/null; then
+        return 1
+    fi
+    local end=$(date +%s%N)
+    echo $(((end - start) / 1000000))
+}
+
+median() {
+    printf '%s\n' "$@" | sort -n | awk '{ a[NR] = $1 } END { print a[int((NR + 1) / 2)] }'
+}
+
+# Alternate the two configurations so that machine load affects both equally
+DEFAULT_TIMES=()
+ARCHIVED_TIMES=()
+for ((i = 0; i < RUNS; i++)); do
+    if ! TIME_MS=$(measure_once); then
+        echo "Test result: FAILED (Eggo did not start)"
+        exit 1
+    fi
+    DEFAULT_TIMES+=("$TIME_MS")
+    if ! TIME_MS=$(measure_once -XX:SharedArchiveFile=$ARCHIVE -Xshare:on); then
+        echo "Test result: FAILED (the AppCDS archive could not be used)"
+        exit 1
+    fi
+    ARCHIVED_TIMES+=("$TIME_MS")
+done
+DEFAULT_MS=$(median "${DEFAULT_TIMES[@]}")
+ARCHIVED_MS=$(median "${ARCHIVED_TIMES[@]}")
+
+echo "Time to first prompt (median of $RUNS runs):"
+echo "  without AppCDS archive: ${DEFAULT_MS} ms"
+echo "  with AppCDS archive:    ${ARCHIVED_MS} ms"
+
+if [ $((ARCHIVED_MS * 100)) -le $((DEFAULT_MS * MAX_STARTUP_PERCENT)) ]
+then
+    echo "Test result: PASSED"
+    exit 0
+else
+    echo "Test result: FAILED (archived startup above ${MAX_STARTUP_PERCENT}% of default)"
+    exit 1
+fi